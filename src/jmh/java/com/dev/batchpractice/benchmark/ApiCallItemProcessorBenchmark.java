@@ -0,0 +1,38 @@
+package com.dev.batchpractice.benchmark;
+
+import com.dev.batchpractice.benchmark.support.NoLatencyExternalApiService;
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import com.dev.batchpractice.job.dataprocessing.processor.ApiCallItemProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 지연(150ms)을 제외한 ApiCallItemProcessor.process 자체의 비용 측정.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiCallItemProcessorBenchmark {
+
+	private final ApiCallItemProcessor processor = NoLatencyExternalApiService.processor();
+
+	private final BatchInput input = BatchInput.builder()
+			.id(1L)
+			.inputName("TestData-1")
+			.data("Data-1-1700000000000")
+			.inputStatus(1)
+			.processed(false)
+			.build();
+
+	@Benchmark
+	public BatchOutput process() {
+		return processor.process(input);
+	}
+}
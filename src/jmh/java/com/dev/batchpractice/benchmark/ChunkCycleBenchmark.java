@@ -0,0 +1,157 @@
+package com.dev.batchpractice.benchmark;
+
+import com.dev.batchpractice.benchmark.support.BenchmarkData;
+import com.dev.batchpractice.benchmark.support.NoLatencyExternalApiService;
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import com.dev.batchpractice.job.dataprocessing.processor.ApiCallItemProcessor;
+import com.dev.batchpractice.job.dataprocessing.reader.KeysetPagingItemReader;
+import com.dev.batchpractice.job.dataprocessing.reader.mapper.BatchInputRowMapper;
+import com.dev.batchpractice.job.dataprocessing.writer.BatchOutputWriter;
+import com.dev.batchpractice.job.dataprocessing.writer.MarkProcessedWriter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+import org.springframework.batch.infrastructure.item.database.JdbcCursorItemReader;
+import org.springframework.batch.infrastructure.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.infrastructure.item.support.CompositeItemWriter;
+import org.springframework.batch.infrastructure.item.support.builder.CompositeItemWriterBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * dataProcessingStep의 청크 한 사이클(read → process → write → commit)을 H2 위에서 측정한다.
+ * <p>
+ * 애플리케이션 컨텍스트 없이 DataSource(Hikari) / JdbcTemplate / DataSourceTransactionManager만 만들고,
+ * Writer는 Step과 같은 BatchOutputWriter + MarkProcessedWriter, Processor는 지연 없는 ExternalApiService 스텁을 쓴다.
+ * <ul>
+ *     <li>Reader는 iteration마다 한 번 열고, 측정 한 번 = 청크 하나. 커서 open 비용은 측정에 들어가지 않는다</li>
+ *     <li>Writer가 processed를 true로 바꾸므로 매번 새 행을 읽는다 (실제 Step과 같은 상태 변화)</li>
+ *     <li>행을 모두 소비하면 processed를 되돌리고 Reader를 다시 연다. {@value #ROW_COUNT}행 / chunkSize번에 한 번이다</li>
+ * </ul>
+ * Reader는 JDBC 커서 / keyset 페이징 두 가지를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChunkCycleBenchmark {
+
+	private static final int ROW_COUNT = 100_000;
+	private static final String CURSOR_SQL = "SELECT id, input_name, data, processed FROM batch_input WHERE processed = false ORDER BY id";
+	private static final String KEYSET_SQL =
+			"SELECT id, input_name, data, processed FROM batch_input WHERE processed = false AND id > ? ORDER BY id LIMIT ?";
+
+	@Param({ "JDBC_CURSOR", "KEYSET_JDBC" })
+	private String readerType;
+
+	@Param({ "10", "100" })
+	private int chunkSize;
+
+	private HikariDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate transactionTemplate;
+	private CompositeItemWriter<BatchOutput> writer;
+	private ItemStreamReader<BatchInput> reader;
+	private final ApiCallItemProcessor processor = NoLatencyExternalApiService.processor();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl("jdbc:h2:mem:chunkcycle;DB_CLOSE_DELAY=-1");
+		dataSource.setUsername("sa");
+		dataSource.setPassword("");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		writer = new CompositeItemWriterBuilder<BatchOutput>()
+				.delegates(List.of(
+						new BatchOutputWriter(jdbcTemplate, 100),
+						new MarkProcessedWriter(new NamedParameterJdbcTemplate(jdbcTemplate))))
+				.build();
+
+		BenchmarkData.createBatchInputTable(jdbcTemplate);
+		BenchmarkData.createBatchOutputTable(jdbcTemplate);
+		BenchmarkData.insertBatchInputs(jdbcTemplate, ROW_COUNT);
+	}
+
+	@Setup(Level.Iteration)
+	public void openReader() throws Exception {
+		restart();
+	}
+
+	@TearDown(Level.Iteration)
+	public void closeReader() {
+		reader.close();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		dataSource.close();
+	}
+
+	@Benchmark
+	public int chunkCycle() throws Exception {
+		return transactionTemplate.execute(status -> {
+			try {
+				List<BatchOutput> outputs = new ArrayList<>(chunkSize);
+				while (outputs.size() < chunkSize) {
+					BatchInput input = reader.read();
+					if (input == null) {
+						restart();
+						continue;
+					}
+					outputs.add(processor.process(input));
+				}
+				writer.write(new Chunk<>(outputs));
+				return outputs.size();
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+
+	private void restart() throws Exception {
+		if (reader != null) {
+			reader.close();
+		}
+		jdbcTemplate.update("DELETE FROM batch_output");
+		jdbcTemplate.update("UPDATE batch_input SET processed = false WHERE processed = true");
+		reader = createReader();
+		reader.open(new ExecutionContext());
+	}
+
+	private ItemStreamReader<BatchInput> createReader() throws Exception {
+		BatchInputRowMapper rowMapper = new BatchInputRowMapper();
+		if ("KEYSET_JDBC".equals(readerType)) {
+			return new KeysetPagingItemReader<>("benchmarkKeysetJdbcReader",
+					(lastId, limit) -> jdbcTemplate.query(KEYSET_SQL, rowMapper, lastId, limit),
+					BatchInput::getId,
+					chunkSize);
+		}
+
+		JdbcCursorItemReader<BatchInput> cursorReader = new JdbcCursorItemReaderBuilder<BatchInput>()
+				.name("benchmarkJdbcCursorReader")
+				.dataSource(dataSource)
+				.sql(CURSOR_SQL)
+				.rowMapper(rowMapper)
+				.build();
+		cursorReader.afterPropertiesSet();
+		return cursorReader;
+	}
+}
@@ -0,0 +1,112 @@
+package com.dev.batchpractice.benchmark;
+
+import com.dev.batchpractice.common.support.CompactExecutionContextSerializer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JobRepository가 청크 커밋마다 하는 ExecutionContext 직렬화 / 역직렬화 비용 비교.
+ * <p>
+ * JdbcExecutionContextDao와 같이 직렬화 결과를 UTF-8 문자열로 바꾸는 데까지 측정한다.
+ * 컨텍스트 모양:
+ * <ul>
+ *     <li>STEP: 청크 Step 하나 (Reader read.count, batch.* 키 몇 개)</li>
+ *     <li>PARTITION: 파티션 Manager가 Worker별로 남기는 값 (키 100개, 문자열 / 숫자 / 날짜 혼합)</li>
+ * </ul>
+ * 직렬화 결과 크기(문자 수)는 serialize 결과의 보조 지표 {@code serializedChars}로 함께 보고된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExecutionContextSerializerBenchmark {
+
+	@Param({ "DEFAULT", "COMPACT", "COMPACT_DEFLATE" })
+	private String serializerType;
+
+	@Param({ "STEP", "PARTITION" })
+	private String contextShape;
+
+	private ExecutionContextSerializer serializer;
+	private Map<String, Object> context;
+	private String serialized;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		serializer = switch (serializerType) {
+			case "DEFAULT" -> new DefaultExecutionContextSerializer();
+			case "COMPACT" -> new CompactExecutionContextSerializer(true, 0);
+			case "COMPACT_DEFLATE" -> new CompactExecutionContextSerializer(true, 1);
+			default -> throw new IllegalArgumentException(serializerType);
+		};
+		context = "STEP".equals(contextShape) ? stepContext() : partitionContext();
+		serialized = write();
+	}
+
+	@Benchmark
+	public String serialize(SerializedSize size) throws IOException {
+		String result = write();
+		size.serializedChars = result.length();
+		return result;
+	}
+
+	@Benchmark
+	public Map<String, Object> deserialize() throws IOException {
+		return serializer.deserialize(new ByteArrayInputStream(serialized.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private String write() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		serializer.serialize(context, out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * JdbcExecutionContextDao가 컬럼에 저장하는 문자 수. EVENTS 타입이라 정규화하지 않고 값 그대로 보고된다.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class SerializedSize {
+
+		public long serializedChars;
+	}
+
+	private static Map<String, Object> stepContext() {
+		Map<String, Object> context = new HashMap<>();
+		context.put("batch.taskletType", "org.springframework.batch.core.step.item.ChunkOrientedTasklet");
+		context.put("batch.stepType", "org.springframework.batch.core.step.tasklet.TaskletStep");
+		context.put("batchInputJdbcCursorItemReader.read.count", 12_345);
+		context.put("batch.restart", false);
+		return context;
+	}
+
+	private static Map<String, Object> partitionContext() {
+		Map<String, Object> context = new HashMap<>();
+		LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+		for (int i = 0; i < 25; i++) {
+			context.put("partition" + i + ".minId", (long) i * 100_000);
+			context.put("partition" + i + ".maxId", (long) (i + 1) * 100_000 - 1);
+			context.put("partition" + i + ".name", "dataProcessingWorkerStep:partition" + i);
+			context.put("partition" + i + ".from", base.plusHours(i));
+		}
+		return context;
+	}
+}
@@ -0,0 +1,87 @@
+package com.dev.batchpractice.benchmark;
+
+import com.dev.batchpractice.benchmark.support.BenchmarkData;
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.job.dataprocessing.reader.BatchInputRow;
+import com.dev.batchpractice.job.dataprocessing.reader.mapper.BatchInputRowMapper;
+import com.dev.batchpractice.job.dataprocessing.reader.mapper.IndexedBatchInputRowMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResultSet → BatchInput 매핑 비용 측정 (BatchInputRowMapper / BatchInput(ResultSet)).
+ * 비교: 컬럼 인덱스로 BatchInputRow projection을 만드는 IndexedBatchInputRowMapper.
+ * 같은 쿼리를 H2 메모리 DB에서 반복 실행하며, 한 번의 측정 = rowCount 행 매핑.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RowMappingBenchmark {
+
+	private static final String SELECT_SQL = "SELECT id, input_name, data, processed FROM batch_input WHERE processed = false ORDER BY id";
+
+	@Param({ "1000" })
+	private int rowCount;
+
+	private SingleConnectionDataSource dataSource;
+	private Connection connection;
+	private PreparedStatement statement;
+	private final BatchInputRowMapper rowMapper = new BatchInputRowMapper();
+	private final IndexedBatchInputRowMapper indexedRowMapper = new IndexedBatchInputRowMapper();
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		dataSource = new SingleConnectionDataSource("jdbc:h2:mem:rowmapping;DB_CLOSE_DELAY=-1", "sa", "", true);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		BenchmarkData.createBatchInputTable(jdbcTemplate);
+		BenchmarkData.insertBatchInputs(jdbcTemplate, rowCount);
+
+		connection = dataSource.getConnection();
+		statement = connection.prepareStatement(SELECT_SQL);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		statement.close();
+		dataSource.destroy();
+	}
+
+	@Benchmark
+	public void batchInputRowMapper(Blackhole blackhole) throws SQLException {
+		try (ResultSet rs = statement.executeQuery()) {
+			int rowNum = 0;
+			while (rs.next()) {
+				BatchInput input = rowMapper.mapRow(rs, rowNum++);
+				blackhole.consume(input);
+			}
+		}
+	}
+
+	@Benchmark
+	public void indexedBatchInputRowMapper(Blackhole blackhole) throws SQLException {
+		try (ResultSet rs = statement.executeQuery()) {
+			int rowNum = 0;
+			while (rs.next()) {
+				BatchInputRow row = indexedRowMapper.mapRow(rs, rowNum++);
+				blackhole.consume(row);
+			}
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.dev.batchpractice.benchmark.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 batch_input 테스트 데이터 적재.
+ */
+public final class BenchmarkData {
+
+	private BenchmarkData() {
+	}
+
+	public static void createBatchInputTable(JdbcTemplate jdbcTemplate) {
+		jdbcTemplate.execute("""
+				CREATE TABLE IF NOT EXISTS batch_input (
+					id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+					input_name VARCHAR(255) NOT NULL,
+					data VARCHAR(255) NOT NULL,
+					input_status INT NOT NULL,
+					processed BOOLEAN NOT NULL,
+					created_at TIMESTAMP NOT NULL,
+					updated_at TIMESTAMP NOT NULL
+				)
+				""");
+	}
+
+	public static void createBatchOutputTable(JdbcTemplate jdbcTemplate) {
+		jdbcTemplate.execute("""
+				CREATE TABLE IF NOT EXISTS batch_output (
+					id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+					input_id BIGINT NOT NULL,
+					name VARCHAR(255) NOT NULL,
+					original_data VARCHAR(255) NOT NULL,
+					processed_data VARCHAR(255) NOT NULL,
+					api_response TEXT,
+					processed_at TIMESTAMP NOT NULL
+				)
+				""");
+	}
+
+	public static void insertBatchInputs(JdbcTemplate jdbcTemplate, int rowCount) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> rows = new ArrayList<>(rowCount);
+		for (int i = 1; i <= rowCount; i++) {
+			rows.add(new Object[] { "TestData-" + i, "Data-" + i, i % 10, false, now, now });
+		}
+		jdbcTemplate.batchUpdate(
+				"INSERT INTO batch_input (input_name, data, input_status, processed, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+	}
+}
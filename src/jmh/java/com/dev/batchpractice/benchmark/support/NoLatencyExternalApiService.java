@@ -0,0 +1,32 @@
+package com.dev.batchpractice.benchmark.support;
+
+import com.dev.batchpractice.domain.service.CachedExternalApiService;
+import com.dev.batchpractice.domain.service.ExternalApiService;
+import com.dev.batchpractice.job.dataprocessing.processor.ApiCallItemProcessor;
+
+import java.time.Duration;
+
+/**
+ * 150ms sleep 없이 즉시 응답하는 ExternalApiService 스텁.
+ * 외부 API 지연을 빼고 Processor 자체의 CPU / 할당 비용만 측정하기 위해 사용한다.
+ */
+public class NoLatencyExternalApiService extends ExternalApiService {
+
+	public NoLatencyExternalApiService() {
+		super(0, 0, 0);
+	}
+
+	@Override
+	public String callExternalApi(String inputData) {
+		return "Processed: " + inputData;
+	}
+
+	/**
+	 * 스텁을 사용하는 ApiCallItemProcessor. 캐시 효과가 섞이지 않도록 BYPASS 모드로 만든다.
+	 */
+	public static ApiCallItemProcessor processor() {
+		NoLatencyExternalApiService stub = new NoLatencyExternalApiService();
+		CachedExternalApiService cached = new CachedExternalApiService(stub, 1, Duration.ofMinutes(1), "");
+		return new ApiCallItemProcessor(stub, cached, "BYPASS");
+	}
+}
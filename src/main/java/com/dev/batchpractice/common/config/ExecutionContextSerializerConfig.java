@@ -0,0 +1,28 @@
+package com.dev.batchpractice.common.config;
+
+import com.dev.batchpractice.common.support.CompactExecutionContextSerializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JobRepository가 ExecutionContext를 저장할 때 쓰는 직렬화기.
+ * <p>
+ * 이름으로 자동 연결되지 않는다. {@code @EnableBatchProcessing}이 있으면 Boot 자동 설정이 물러나므로
+ * {@link JobRepositoryConfig}의 {@code @EnableJdbcJobRepository(executionContextSerializerRef = "executionContextSerializer")}로 주입한다.
+ * compact=false여도 {@link CompactExecutionContextSerializer}를 두는 이유는, 바이너리로 저장된 컨텍스트를 되돌린 뒤에도 읽기 위해서다.
+ */
+@Slf4j
+@Configuration
+public class ExecutionContextSerializerConfig {
+
+	@Bean
+	public ExecutionContextSerializer executionContextSerializer(
+			@Value("${batch.repository.execution-context.compact:true}") boolean compact,
+			@Value("${batch.repository.execution-context.compression-threshold:1024}") int compressionThreshold) {
+		log.info("ExecutionContext serializer: {} (compression threshold {} bytes)", compact ? "compact binary" : "default", compressionThreshold);
+		return new CompactExecutionContextSerializer(compact, compressionThreshold);
+	}
+}
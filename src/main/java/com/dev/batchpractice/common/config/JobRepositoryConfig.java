@@ -0,0 +1,44 @@
+package com.dev.batchpractice.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.EnableJdbcJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.jdbc.init.PlatformPlaceholderDatabaseDriverResolver;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * JobRepository를 애플리케이션 DataSource의 BATCH_* 테이블에 둔다.
+ * <p>
+ * {@code @EnableBatchProcessing}만 있으면 JobRepository는 메모리(Resourceless)이고, Boot의 배치 자동 설정은 물러나서
+ * {@code spring.batch.jdbc.initialize-schema}도 적용되지 않는다. 그래서 여기서 직접 지정한다.
+ * <ul>
+ *     <li>JDBC JobRepository + ExecutionContext 직렬화기({@link ExecutionContextSerializerConfig})</li>
+ *     <li>스키마: Spring Batch의 {@code schema-@@platform@@.sql}을 {@code spring.batch.jdbc.initialize-schema} 모드로 실행</li>
+ * </ul>
+ * 원격 파티셔닝 / 원격 청킹(노드 간 StepExecution 공유), metadataHousekeepingJob(BATCH_* 정리)은 이 JobRepository를 전제로 한다.
+ */
+@Slf4j
+@Configuration
+@EnableJdbcJobRepository(executionContextSerializerRef = "executionContextSerializer")
+public class JobRepositoryConfig {
+
+	private static final String SCHEMA_LOCATION = "classpath:org/springframework/batch/core/schema-@@platform@@.sql";
+
+	@Bean
+	public DataSourceScriptDatabaseInitializer batchSchemaInitializer(DataSource dataSource,
+			@Value("${spring.batch.jdbc.initialize-schema:embedded}") DatabaseInitializationMode mode) {
+		List<String> schemaLocations = new PlatformPlaceholderDatabaseDriverResolver().resolveAll(dataSource, SCHEMA_LOCATION);
+		log.info("Batch schema initialization: {} (mode={})", schemaLocations, mode);
+		DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+		settings.setSchemaLocations(schemaLocations);
+		settings.setMode(mode);
+		return new DataSourceScriptDatabaseInitializer(dataSource, settings);
+	}
+}
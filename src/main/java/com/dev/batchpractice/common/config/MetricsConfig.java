@@ -0,0 +1,33 @@
+package com.dev.batchpractice.common.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 배치 지표용 로컬 Micrometer 레지스트리.
+ * <p>
+ * 웹 서버 / Actuator 없이 동작하도록 PrometheusMeterRegistry를 직접 등록하고,
+ * {@link MeterBinder}를 구현한 빈(ExternalApiService의 in-flight 게이지 등)을 모두 바인딩한다.
+ * 수집된 지표는 {@link com.dev.batchpractice.common.support.PrometheusScrapeServer}가 텍스트 포맷으로 노출한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	public PrometheusMeterRegistry prometheusMeterRegistry(ObjectProvider<MeterBinder> meterBinders) {
+		PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+		registry.config().commonTags("application", "batchpractice");
+
+		new JvmMemoryMetrics().bindTo(registry);
+		new JvmThreadMetrics().bindTo(registry);
+		meterBinders.orderedStream().forEach(binder -> binder.bindTo(registry));
+
+		return registry;
+	}
+}
@@ -0,0 +1,194 @@
+package com.dev.batchpractice.common.listener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.listener.ChunkListener;
+import org.springframework.batch.core.listener.ItemProcessListener;
+import org.springframework.batch.core.listener.ItemReadListener;
+import org.springframework.batch.core.listener.ItemWriteListener;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * Job / Step / Chunk / Item 단위 지표를 Micrometer 레지스트리에 기록하는 리스너.
+ * <p>
+ * 싱글톤이지만 상태를 필드에 두지 않는다.
+ * <ul>
+ *     <li>Job / Step 소요 시간: Execution에 기록된 startTime ~ endTime</li>
+ *     <li>read / process / write / chunk 지연: 같은 스레드에서 before → after가 호출되므로 ThreadLocal에 시작 시각 보관</li>
+ * </ul>
+ * 따라서 파티션이나 멀티스레드 Step에서 동시에 호출되어도 실행 단위로 독립적으로 측정된다.
+ * <p>
+ * Processor가 Future를 반환하는 모드(ASYNC / MICRO_BATCH)는 before → after 사이가 제출 시간뿐이므로 그대로 기록하지 않는다.
+ * MICRO_BATCH(CompletableFuture)는 Future가 완료될 때 기록하고, ASYNC는 AsyncApiCallItemProcessor가 가상 스레드 안에서 직접 기록한다.
+ * 태그의 step 이름은 현재 스레드에 등록된 StepContext에서 가져온다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchMetricsListener implements JobExecutionListener, StepExecutionListener, ChunkListener,
+		ItemReadListener<Object>, ItemProcessListener<Object, Object>, ItemWriteListener<Object> {
+
+	private static final String UNKNOWN = "unknown";
+
+	private final MeterRegistry meterRegistry;
+
+	private final ThreadLocal<Long> readStart = new ThreadLocal<>();
+	private final ThreadLocal<Long> processStart = new ThreadLocal<>();
+	private final ThreadLocal<Long> writeStart = new ThreadLocal<>();
+	private final ThreadLocal<Long> chunkStart = new ThreadLocal<>();
+
+	// ===== Job / Step =====
+
+	@Override
+	public void afterJob(JobExecution jobExecution) {
+		Duration duration = Duration.between(
+				BatchPerformanceListener.toInstant(jobExecution.getStartTime()),
+				BatchPerformanceListener.toInstant(jobExecution.getEndTime()));
+
+		Timer.builder("batch.job.duration")
+				.tag("job", jobExecution.getJobInstance().getJobName())
+				.tag("status", jobExecution.getExitStatus().getExitCode())
+				.register(meterRegistry)
+				.record(duration);
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		Duration duration = Duration.between(
+				BatchPerformanceListener.toInstant(stepExecution.getStartTime()),
+				BatchPerformanceListener.toInstant(stepExecution.getEndTime()));
+		String step = stepExecution.getStepName();
+
+		Timer.builder("batch.step.duration")
+				.tag("step", step)
+				.tag("status", stepExecution.getExitStatus().getExitCode())
+				.register(meterRegistry)
+				.record(duration);
+		meterRegistry.counter("batch.step.skips", "step", step).increment(stepExecution.getSkipCount());
+
+		return stepExecution.getExitStatus();
+	}
+
+	// ===== Chunk =====
+
+	@Override
+	public void beforeChunk(ChunkContext context) {
+		chunkStart.set(System.nanoTime());
+	}
+
+	@Override
+	public void afterChunk(ChunkContext context) {
+		String step = context.getStepContext().getStepName();
+		recordSince(chunkStart, "batch.chunk.duration", step);
+		// 커밋 수 카운터 → Prometheus에서 rate()로 커밋 속도를 본다
+		meterRegistry.counter("batch.chunk.commits", "step", step).increment();
+	}
+
+	@Override
+	public void afterChunkError(ChunkContext context) {
+		chunkStart.remove();
+		meterRegistry.counter("batch.chunk.rollbacks", "step", context.getStepContext().getStepName()).increment();
+	}
+
+	// ===== Read =====
+
+	@Override
+	public void beforeRead() {
+		readStart.set(System.nanoTime());
+	}
+
+	@Override
+	public void afterRead(Object item) {
+		String step = currentStepName();
+		recordSince(readStart, "batch.item.read", step);
+		meterRegistry.counter("batch.items", "step", step, "stage", "read").increment();
+	}
+
+	@Override
+	public void onReadError(Exception ex) {
+		readStart.remove();
+		meterRegistry.counter("batch.item.errors", "step", currentStepName(), "stage", "read").increment();
+	}
+
+	// ===== Process =====
+
+	@Override
+	public void beforeProcess(Object item) {
+		processStart.set(System.nanoTime());
+	}
+
+	@Override
+	public void afterProcess(Object item, Object result) {
+		String step = currentStepName();
+		if (result instanceof Future<?>) {
+			Long startNanos = processStart.get();
+			processStart.remove();
+			if (result instanceof CompletableFuture<?> future && startNanos != null) {
+				future.thenRun(() -> record("batch.item.process", step, startNanos));
+			}
+		} else {
+			recordSince(processStart, "batch.item.process", step);
+		}
+		meterRegistry.counter("batch.items", "step", step, "stage", result == null ? "filtered" : "processed").increment();
+	}
+
+	@Override
+	public void onProcessError(Object item, Exception e) {
+		processStart.remove();
+		meterRegistry.counter("batch.item.errors", "step", currentStepName(), "stage", "process").increment();
+	}
+
+	// ===== Write =====
+
+	@Override
+	public void beforeWrite(Chunk<?> items) {
+		writeStart.set(System.nanoTime());
+	}
+
+	@Override
+	public void afterWrite(Chunk<?> items) {
+		String step = currentStepName();
+		recordSince(writeStart, "batch.chunk.write", step);
+		meterRegistry.counter("batch.items", "step", step, "stage", "written").increment(items.size());
+	}
+
+	@Override
+	public void onWriteError(Exception exception, Chunk<?> items) {
+		writeStart.remove();
+		meterRegistry.counter("batch.item.errors", "step", currentStepName(), "stage", "write").increment(items.size());
+	}
+
+	private void recordSince(ThreadLocal<Long> start, String name, String step) {
+		Long startNanos = start.get();
+		start.remove();
+		if (startNanos != null) {
+			record(name, step, startNanos);
+		}
+	}
+
+	private void record(String name, String step, long startNanos) {
+		Timer.builder(name)
+				.tag("step", step)
+				.publishPercentileHistogram()
+				.register(meterRegistry)
+				.record(Duration.ofNanos(System.nanoTime() - startNanos));
+	}
+
+	private String currentStepName() {
+		StepContext context = StepSynchronizationManager.getContext();
+		return context != null ? context.getStepName() : UNKNOWN;
+	}
+}
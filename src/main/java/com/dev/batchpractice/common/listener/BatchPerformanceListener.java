@@ -1,5 +1,6 @@
 package com.dev.batchpractice.common.listener;
 
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.ExitStatus;
@@ -12,25 +13,25 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 import java.time.Instant;
 
+/**
+ * Job / Step 실행 시간과 처리 건수를 로그로 남기는 리스너.
+ * <p>
+ * 시작 시각을 리스너 필드에 저장하면 싱글톤 빈이므로 두 Step(또는 파티션)이 동시에 실행될 때 서로 덮어쓴다.
+ * 시작 시각은 JobExecution / StepExecution 자체에 기록된 값을 사용하므로 실행 단위로 독립적이다.
+ * 지표 수집은 {@link BatchMetricsListener}가 담당한다.
+ */
 @Slf4j
 @Component
 public class BatchPerformanceListener implements JobExecutionListener, StepExecutionListener {
 
-	private Instant jobStartTime;
-	private Instant stepStartTime;
-
 	@Override
 	public void beforeJob(JobExecution jobExecution) {
-		jobStartTime = Instant.now();
-		log.info("Job {} started at {}", jobExecution.getJobInstance().getJobName(), jobStartTime);
+		log.info("Job {} started at {}", jobExecution.getJobInstance().getJobName(), toInstant(jobExecution.getStartTime()));
 	}
 
 	@Override
 	public void afterJob(JobExecution jobExecution) {
-		Instant endTime = jobExecution.getEndTime() != null
-				? jobExecution.getEndTime().atZone(ZoneId.systemDefault()).toInstant()
-				: Instant.now();
-		long durationMs = Duration.between(jobStartTime, endTime).toMillis();
+		long durationMs = Duration.between(toInstant(jobExecution.getStartTime()), toInstant(jobExecution.getEndTime())).toMillis();
 		String status = jobExecution.getExitStatus().getExitCode();
 		log.info("[Job Performance] jobName={}, status={}, duration={} ({}ms)",
 				jobExecution.getJobInstance().getJobName(), status, formatDuration(durationMs), durationMs);
@@ -38,16 +39,12 @@ public class BatchPerformanceListener implements JobExecutionListener, StepExecu
 
 	@Override
 	public void beforeStep(StepExecution stepExecution) {
-		stepStartTime = Instant.now();
-		log.info("Step {} started at {}", stepExecution.getStepName(), stepStartTime);
+		log.info("Step {} started at {}", stepExecution.getStepName(), toInstant(stepExecution.getStartTime()));
 	}
 
 	@Override
 	public ExitStatus afterStep(StepExecution stepExecution) {
-		Instant endTime = stepExecution.getEndTime() != null
-				? stepExecution.getEndTime().atZone(ZoneId.systemDefault()).toInstant()
-				: Instant.now();
-		long durationMs = Duration.between(stepStartTime, endTime).toMillis();
+		long durationMs = Duration.between(toInstant(stepExecution.getStartTime()), toInstant(stepExecution.getEndTime())).toMillis();
 		double durationSec = durationMs / 1000.0;
 		long readCount = stepExecution.getReadCount();
 		long writeCount = stepExecution.getWriteCount();
@@ -62,6 +59,15 @@ public class BatchPerformanceListener implements JobExecutionListener, StepExecu
 		return stepExecution.getExitStatus();
 	}
 
+	/**
+	 * 실행 시각을 Instant로 변환한다. 아직 기록되지 않은 경우(afterStep 시점의 endTime 등) 현재 시각을 사용한다.
+	 */
+	static Instant toInstant(LocalDateTime dateTime) {
+		return dateTime != null
+				? dateTime.atZone(ZoneId.systemDefault()).toInstant()
+				: Instant.now();
+	}
+
 	/**
 	 * 소요 시간(ms)을 분·초·밀리초 단위로 읽기 쉽게 포맷한다.
 	 * 예: 125000ms → "2m 5s 0ms", 3500ms → "3s 500ms", 99ms → "99ms"
@@ -0,0 +1,64 @@
+package com.dev.batchpractice.common.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * JobOperator.start를 별도 스레드(기본: 가상 스레드)에서 실행하는 런처.
+ * <p>
+ * JobOperator.start는 Job이 끝날 때까지 호출 스레드를 붙잡는다. 스케줄러 스레드처럼 다른 일도 해야 하는 스레드에서는
+ * 이 런처로 실행하고 결과는 CompletableFuture로 받는다.
+ * <ul>
+ *     <li>동시에 실행되는 Job 수는 {@code batch.launch.max-concurrent-jobs}로 제한 (초과 시 호출 스레드가 대기)</li>
+ *     <li>종료 시 실행 중인 Job을 {@code batch.launch.shutdown-timeout}까지 기다린다 (중간에 끊기면 STARTED로 남기 때문)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AsyncJobLauncher implements DisposableBean {
+
+	private final JobOperator jobOperator;
+	private final SimpleAsyncTaskExecutor taskExecutor;
+
+	public AsyncJobLauncher(JobOperator jobOperator,
+							@Value("${batch.launch.thread-mode:VIRTUAL}") ThreadMode threadMode,
+							@Value("${batch.launch.max-concurrent-jobs:4}") int maxConcurrentJobs,
+							@Value("${batch.launch.shutdown-timeout:60s}") Duration shutdownTimeout) {
+		this.jobOperator = jobOperator;
+		this.taskExecutor = BatchTaskExecutors.create("job-launch-", threadMode, maxConcurrentJobs);
+		this.taskExecutor.setTaskTerminationTimeout(shutdownTimeout.toMillis());
+		log.info("AsyncJobLauncher threadMode={}, maxConcurrentJobs={}", threadMode, maxConcurrentJobs);
+	}
+
+	public CompletableFuture<JobExecution> start(Job job, JobParameters jobParameters) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return jobOperator.start(job, jobParameters);
+			} catch (Exception e) {
+				throw new CompletionException(e);
+			}
+		}, taskExecutor).whenComplete((jobExecution, error) -> {
+			if (error != null) {
+				log.error("Async launch of job {} failed", job.getName(), error);
+			} else {
+				log.info("Async launch of job {} finished: id={}, status={}", job.getName(), jobExecution.getId(), jobExecution.getStatus());
+			}
+		});
+	}
+
+	@Override
+	public void destroy() {
+		taskExecutor.close();
+	}
+}
@@ -0,0 +1,26 @@
+package com.dev.batchpractice.common.support;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * 멀티스레드 Step, 파티션, 비동기 Job 실행에 쓰는 TaskExecutor 생성 헬퍼.
+ * <p>
+ * 가상 스레드는 만들기 싸지만 DB 커넥션 / 외부 API 쿼터는 그렇지 않으므로
+ * 스레드 종류와 관계없이 항상 concurrencyLimit으로 동시 실행 수를 제한한다.
+ * 한도에 도달하면 submit하는 쪽이 자리가 날 때까지 대기한다.
+ */
+public final class BatchTaskExecutors {
+
+	private BatchTaskExecutors() {
+	}
+
+	public static SimpleAsyncTaskExecutor create(String threadNamePrefix, ThreadMode mode, int concurrencyLimit) {
+		if (concurrencyLimit < 1) {
+			throw new IllegalArgumentException("concurrencyLimit must be positive: " + concurrencyLimit);
+		}
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+		taskExecutor.setVirtualThreads(mode == ThreadMode.VIRTUAL);
+		taskExecutor.setConcurrencyLimit(concurrencyLimit);
+		return taskExecutor;
+	}
+}
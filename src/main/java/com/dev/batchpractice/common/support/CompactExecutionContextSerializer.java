@@ -0,0 +1,434 @@
+package com.dev.batchpractice.common.support;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * ExecutionContext를 짧은 타입 태그 + varint 바이너리로 직렬화하는 ExecutionContextSerializer.
+ * <p>
+ * 기본 DefaultExecutionContextSerializer는 Map 전체를 Java 직렬화(클래스 디스크립터 포함) 후 Base64로 저장해서,
+ * "FlatFileItemReader.read.count" 같은 키 몇 개짜리 Step 컨텍스트도 수백 바이트가 되고 청크 커밋마다 그 비용을 낸다.
+ * <ul>
+ *     <li>형식: {@code "~BEC1" + Base64(flags, [deflate](entry 수, (key, tag, value)...))}.
+ *         JdbcExecutionContextDao가 문자열 컬럼에 저장하므로 결과는 항상 ASCII 텍스트</li>
+ *     <li>값 타입: String / Integer / Long / Double / Boolean 등 ExecutionContext에 주로 들어가는 타입은 1바이트 태그,
+ *         정수는 zigzag varint. 그 외 타입은 해당 값만 Java 직렬화해서 담는다 (동작은 기본 직렬화와 같음)</li>
+ *     <li>compressionThreshold 바이트 이상이면 deflate (파티션 컨텍스트처럼 큰 맵)</li>
+ *     <li>읽기: "~BEC1"로 시작하지 않으면 기본 직렬화 형식으로 보고 delegate에 넘긴다 → 기존 메타데이터를 그대로 읽는다.
+ *         writeCompact=false면 쓰기도 기본 형식 (되돌릴 때 이미 저장된 바이너리 컨텍스트도 읽을 수 있도록)</li>
+ * </ul>
+ */
+public class CompactExecutionContextSerializer implements ExecutionContextSerializer {
+
+	static final String MAGIC = "~BEC1";
+
+	private static final byte[] MAGIC_BYTES = MAGIC.getBytes(StandardCharsets.US_ASCII);
+	private static final int FLAG_DEFLATE = 1;
+
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte INTEGER = 2;
+	private static final byte LONG = 3;
+	private static final byte DOUBLE = 4;
+	private static final byte BOOLEAN_FALSE = 5;
+	private static final byte BOOLEAN_TRUE = 6;
+	private static final byte FLOAT = 7;
+	private static final byte SHORT = 8;
+	private static final byte BYTE = 9;
+	private static final byte CHARACTER = 10;
+	private static final byte DATE = 11;
+	private static final byte LOCAL_DATE = 12;
+	private static final byte LOCAL_DATE_TIME = 13;
+	private static final byte LOCAL_TIME = 14;
+	private static final byte BIG_DECIMAL = 15;
+	private static final byte BYTE_ARRAY = 16;
+	private static final byte JAVA_SERIALIZED = 127;
+
+	private final ExecutionContextSerializer delegate;
+	private final boolean writeCompact;
+	private final int compressionThreshold;
+
+	/**
+	 * @param compressionThreshold 압축 전 바이트 수가 이 값 이상이면 deflate, 0 이하면 압축하지 않는다
+	 */
+	public CompactExecutionContextSerializer(boolean writeCompact, int compressionThreshold) {
+		this(new DefaultExecutionContextSerializer(), writeCompact, compressionThreshold);
+	}
+
+	public CompactExecutionContextSerializer(ExecutionContextSerializer delegate, boolean writeCompact, int compressionThreshold) {
+		this.delegate = delegate;
+		this.writeCompact = writeCompact;
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	@Override
+	public void serialize(Map<String, Object> context, OutputStream out) throws IOException {
+		if (!writeCompact) {
+			delegate.serialize(context, out);
+			return;
+		}
+		Buffer body = new Buffer(256);
+		body.writeVarInt(context.size());
+		for (Map.Entry<String, Object> entry : context.entrySet()) {
+			body.writeString(entry.getKey());
+			writeValue(body, entry.getValue());
+		}
+
+		Buffer payload;
+		if (compressionThreshold > 0 && body.size() >= compressionThreshold) {
+			payload = new Buffer(body.size() / 2 + 16);
+			payload.write(FLAG_DEFLATE);
+			deflate(body, payload);
+		} else {
+			payload = new Buffer(body.size() + 1);
+			payload.write(0);
+			payload.write(body.array(), 0, body.size());
+		}
+
+		out.write(MAGIC_BYTES);
+		out.write(Base64.getEncoder().encode(Arrays.copyOf(payload.array(), payload.size())));
+	}
+
+	@Override
+	public Map<String, Object> deserialize(InputStream in) throws IOException {
+		byte[] bytes = in.readAllBytes();
+		if (!hasMagic(bytes)) {
+			return delegate.deserialize(new ByteArrayInputStream(bytes));
+		}
+		byte[] payload;
+		try {
+			payload = Base64.getDecoder().decode(Arrays.copyOfRange(bytes, MAGIC_BYTES.length, bytes.length));
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Corrupt execution context encoding", e);
+		}
+		if (payload.length == 0) {
+			throw new IOException("Unexpected end of execution context");
+		}
+		Reader reader = (payload[0] & FLAG_DEFLATE) != 0
+				? new Reader(inflate(payload))
+				: new Reader(payload, 1);
+
+		int size = reader.readVarInt();
+		Map<String, Object> context = new HashMap<>((int) (size / 0.75f) + 1);
+		for (int i = 0; i < size; i++) {
+			String key = reader.readString();
+			context.put(key, readValue(reader));
+		}
+		return context;
+	}
+
+	private static boolean hasMagic(byte[] bytes) {
+		return bytes.length >= MAGIC_BYTES.length && Arrays.equals(bytes, 0, MAGIC_BYTES.length, MAGIC_BYTES, 0, MAGIC_BYTES.length);
+	}
+
+	private static void writeValue(Buffer out, Object value) throws IOException {
+		// 정확한 클래스로 분기 (java.sql.Timestamp 같은 하위 타입은 타입이 바뀌지 않도록 Java 직렬화로)
+		switch (value) {
+			case null -> out.write(NULL);
+			case String s -> {
+				out.write(STRING);
+				out.writeString(s);
+			}
+			case Integer i -> {
+				out.write(INTEGER);
+				out.writeVarLong(zigzag(i));
+			}
+			case Long l -> {
+				out.write(LONG);
+				out.writeVarLong(zigzag(l));
+			}
+			case Double d -> {
+				out.write(DOUBLE);
+				out.writeLong(Double.doubleToRawLongBits(d));
+			}
+			case Boolean b -> out.write(b ? BOOLEAN_TRUE : BOOLEAN_FALSE);
+			case Float f -> {
+				out.write(FLOAT);
+				out.writeVarLong(Float.floatToRawIntBits(f) & 0xffffffffL);
+			}
+			case Short s -> {
+				out.write(SHORT);
+				out.writeVarLong(zigzag(s));
+			}
+			case Byte b -> {
+				out.write(BYTE);
+				out.write(b);
+			}
+			case Character c -> {
+				out.write(CHARACTER);
+				out.writeVarLong(c);
+			}
+			case LocalDate d -> {
+				out.write(LOCAL_DATE);
+				out.writeVarLong(zigzag(d.toEpochDay()));
+			}
+			case LocalDateTime dt -> {
+				out.write(LOCAL_DATE_TIME);
+				out.writeVarLong(zigzag(dt.toLocalDate().toEpochDay()));
+				out.writeVarLong(dt.toLocalTime().toNanoOfDay());
+			}
+			case LocalTime t -> {
+				out.write(LOCAL_TIME);
+				out.writeVarLong(t.toNanoOfDay());
+			}
+			case byte[] array -> {
+				out.write(BYTE_ARRAY);
+				out.writeVarInt(array.length);
+				out.write(array, 0, array.length);
+			}
+			case Date date when date.getClass() == Date.class -> {
+				out.write(DATE);
+				out.writeVarLong(zigzag(date.getTime()));
+			}
+			case BigDecimal decimal when decimal.getClass() == BigDecimal.class -> {
+				out.write(BIG_DECIMAL);
+				out.writeString(decimal.toString());
+			}
+			default -> {
+				out.write(JAVA_SERIALIZED);
+				byte[] serialized = javaSerialize(value);
+				out.writeVarInt(serialized.length);
+				out.write(serialized, 0, serialized.length);
+			}
+		}
+	}
+
+	private static Object readValue(Reader in) throws IOException {
+		byte tag = in.readByte();
+		return switch (tag) {
+			case NULL -> null;
+			case STRING -> in.readString();
+			case INTEGER -> (int) unzigzag(in.readVarLong());
+			case LONG -> unzigzag(in.readVarLong());
+			case DOUBLE -> Double.longBitsToDouble(in.readLong());
+			case BOOLEAN_FALSE -> Boolean.FALSE;
+			case BOOLEAN_TRUE -> Boolean.TRUE;
+			case FLOAT -> Float.intBitsToFloat((int) in.readVarLong());
+			case SHORT -> (short) unzigzag(in.readVarLong());
+			case BYTE -> in.readByte();
+			case CHARACTER -> (char) in.readVarLong();
+			case DATE -> new Date(unzigzag(in.readVarLong()));
+			case LOCAL_DATE -> LocalDate.ofEpochDay(unzigzag(in.readVarLong()));
+			case LOCAL_DATE_TIME -> LocalDateTime.of(LocalDate.ofEpochDay(unzigzag(in.readVarLong())), LocalTime.ofNanoOfDay(in.readVarLong()));
+			case LOCAL_TIME -> LocalTime.ofNanoOfDay(in.readVarLong());
+			case BIG_DECIMAL -> new BigDecimal(in.readString());
+			case BYTE_ARRAY -> in.readBytes(in.readVarInt());
+			case JAVA_SERIALIZED -> javaDeserialize(in.readBytes(in.readVarInt()));
+			default -> throw new IOException("Unknown execution context value tag: " + tag);
+		};
+	}
+
+	private static byte[] javaSerialize(Object value) throws IOException {
+		if (!(value instanceof Serializable)) {
+			throw new IllegalArgumentException("ExecutionContext value is not serializable: " + value.getClass().getName());
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(value);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Object javaDeserialize(byte[] bytes) throws IOException {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return in.readObject();
+		} catch (ClassNotFoundException e) {
+			throw new IOException("Cannot deserialize execution context value", e);
+		}
+	}
+
+	private static void deflate(Buffer body, Buffer out) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(body.array(), 0, body.size());
+			deflater.finish();
+			byte[] chunk = new byte[1024];
+			while (!deflater.finished()) {
+				int n = deflater.deflate(chunk);
+				out.write(chunk, 0, n);
+			}
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] inflate(byte[] payload) throws IOException {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(payload, 1, payload.length - 1);
+			Buffer out = new Buffer(payload.length * 3);
+			byte[] chunk = new byte[1024];
+			while (!inflater.finished()) {
+				int n = inflater.inflate(chunk);
+				if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IOException("Truncated compressed execution context");
+				}
+				out.write(chunk, 0, n);
+			}
+			return Arrays.copyOf(out.array(), out.size());
+		} catch (DataFormatException e) {
+			throw new IOException("Corrupt compressed execution context", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * ByteArrayOutputStream과 달리 동기화 없이 내부 배열을 그대로 노출하는 버퍼.
+	 */
+	private static final class Buffer {
+
+		private byte[] bytes;
+		private int size;
+
+		private Buffer(int capacity) {
+			this.bytes = new byte[Math.max(capacity, 16)];
+		}
+
+		void write(int b) {
+			ensure(1);
+			bytes[size++] = (byte) b;
+		}
+
+		void write(byte[] source, int offset, int length) {
+			ensure(length);
+			System.arraycopy(source, offset, bytes, size, length);
+			size += length;
+		}
+
+		void writeVarInt(int value) {
+			writeVarLong(value & 0xffffffffL);
+		}
+
+		void writeVarLong(long value) {
+			ensure(10);
+			while ((value & ~0x7FL) != 0) {
+				bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			bytes[size++] = (byte) value;
+		}
+
+		void writeLong(long value) {
+			ensure(8);
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				bytes[size++] = (byte) (value >>> shift);
+			}
+		}
+
+		void writeString(String value) {
+			byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+			writeVarInt(utf8.length);
+			write(utf8, 0, utf8.length);
+		}
+
+		byte[] array() {
+			return bytes;
+		}
+
+		int size() {
+			return size;
+		}
+
+		private void ensure(int extra) {
+			if (size + extra > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+			}
+		}
+	}
+
+	private static final class Reader {
+
+		private final byte[] bytes;
+		private int position;
+
+		private Reader(byte[] bytes) {
+			this(bytes, 0);
+		}
+
+		private Reader(byte[] bytes, int position) {
+			this.bytes = bytes;
+			this.position = position;
+		}
+
+		byte readByte() throws IOException {
+			if (position >= bytes.length) {
+				throw new IOException("Unexpected end of execution context");
+			}
+			return bytes[position++];
+		}
+
+		int readVarInt() throws IOException {
+			return (int) readVarLong();
+		}
+
+		long readVarLong() throws IOException {
+			long result = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				byte b = readByte();
+				result |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return result;
+				}
+			}
+			throw new IOException("Malformed varint in execution context");
+		}
+
+		long readLong() throws IOException {
+			long result = 0;
+			for (int i = 0; i < 8; i++) {
+				result = (result << 8) | (readByte() & 0xFF);
+			}
+			return result;
+		}
+
+		byte[] readBytes(int length) throws IOException {
+			if (length < 0 || position + length > bytes.length) {
+				throw new IOException("Unexpected end of execution context");
+			}
+			byte[] result = Arrays.copyOfRange(bytes, position, position + length);
+			position += length;
+			return result;
+		}
+
+		String readString() throws IOException {
+			int length = readVarInt();
+			if (length < 0 || position + length > bytes.length) {
+				throw new IOException("Unexpected end of execution context");
+			}
+			String result = new String(bytes, position, length, StandardCharsets.UTF_8);
+			position += length;
+			return result;
+		}
+	}
+}
@@ -0,0 +1,428 @@
+package com.dev.batchpractice.common.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 트리거된 Job을 큐에 모아 AsyncJobLauncher로 실행하는 디스패처.
+ * <ul>
+ *     <li>전체 동시 실행 수는 {@code batch.launch.max-concurrent-jobs}(AsyncJobLauncher의 한도와 같은 값)로 제한,
+ *         Job별 동시 실행 수는 {@code batch.dispatch.max-concurrent-per-job}</li>
+ *     <li>같은 Job이 실행/대기 중일 때의 트리거는 {@link TriggerPolicy}로 처리 (기본 COALESCE)</li>
+ *     <li>실행 순서: 예상 실행 시간(이전 실행 시간의 EWMA)이 짧은 Job 먼저.
+ *         단 {@code batch.dispatch.max-queue-wait}보다 오래 기다린 요청은 들어온 순서대로 먼저 실행 (긴 Job 기아 방지)</li>
+ *     <li>JobParameters는 큐에 넣을 때가 아니라 실제 실행 직전에 만든다 (timestamp가 실행 시각이 되도록)</li>
+ *     <li>실행 슬롯은 Job이 끝나 Future가 완료될 때 반납되지만, AsyncJobLauncher executor의 동시 실행 permit은
+ *         그 콜백을 실행한 launch 스레드가 끝나야 반납된다. 그래서 슬롯이 비자마자 다음 Job을 꺼내면
+ *         디스패처가 {@code launch}에서 앞 launch 스레드가 끝날 때까지 잠깐 대기할 수 있다 (실행 중인 Job을 기다리지는 않는다).
+ *         전체 동시 실행 수의 최종 한도는 executor permit이다</li>
+ * </ul>
+ * 대기 시간 / 실행 시간은 Job별 Timer({@code batch.dispatch.queue_wait}, {@code batch.dispatch.run})와 {@link #stats()}로 확인한다.
+ */
+@Slf4j
+@Component
+public class JobDispatchQueue implements SmartLifecycle, MeterBinder {
+
+	private static final double EWMA_ALPHA = 0.3;
+
+	private final AsyncJobLauncher asyncJobLauncher;
+	private final int maxConcurrentJobs;
+	private final int defaultMaxConcurrentPerJob;
+	private final TriggerPolicy defaultTriggerPolicy;
+	private final int queueCapacity;
+	private final long maxQueueWaitNanos;
+
+	// pending, jobs, sequence, running은 lock으로 보호
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+	private final List<Request> pending = new ArrayList<>();
+	private final Map<String, JobState> jobs = new HashMap<>();
+	private long sequence;
+	private int running;
+
+	private final AtomicLong submitted = new AtomicLong();
+	private final AtomicLong coalesced = new AtomicLong();
+	private final AtomicLong skipped = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+
+	private volatile MeterRegistry registry;
+	private volatile boolean active;
+	private Thread dispatcher;
+
+	public JobDispatchQueue(AsyncJobLauncher asyncJobLauncher,
+							@Value("${batch.launch.max-concurrent-jobs:4}") int maxConcurrentJobs,
+							@Value("${batch.dispatch.max-concurrent-per-job:1}") int maxConcurrentPerJob,
+							@Value("${batch.dispatch.trigger-policy:COALESCE}") TriggerPolicy triggerPolicy,
+							@Value("${batch.dispatch.queue-capacity:100}") int queueCapacity,
+							@Value("${batch.dispatch.max-queue-wait:5m}") Duration maxQueueWait) {
+		if (maxConcurrentJobs < 1 || maxConcurrentPerJob < 1 || queueCapacity < 1) {
+			throw new IllegalArgumentException("JobDispatchQueue limits must be positive: maxConcurrentJobs=" + maxConcurrentJobs
+					+ ", maxConcurrentPerJob=" + maxConcurrentPerJob + ", queueCapacity=" + queueCapacity);
+		}
+		this.asyncJobLauncher = asyncJobLauncher;
+		this.maxConcurrentJobs = maxConcurrentJobs;
+		this.defaultMaxConcurrentPerJob = maxConcurrentPerJob;
+		this.defaultTriggerPolicy = triggerPolicy;
+		this.queueCapacity = queueCapacity;
+		this.maxQueueWaitNanos = maxQueueWait.toNanos();
+	}
+
+	public CompletableFuture<JobExecution> submit(Job job, Supplier<JobParameters> jobParameters) {
+		return submit(job, jobParameters, defaultTriggerPolicy);
+	}
+
+	/**
+	 * Job 실행 요청을 큐에 넣는다. 호출 스레드는 블록되지 않는다.
+	 *
+	 * @return 실행 결과. SKIP으로 버려진 트리거는 null로 완료, COALESCE로 합쳐진 트리거는 대기 중인 요청의 Future,
+	 * 큐가 가득 찼거나 디스패처가 멈춰 있으면 RejectedExecutionException으로 실패
+	 */
+	public CompletableFuture<JobExecution> submit(Job job, Supplier<JobParameters> jobParameters, TriggerPolicy policy) {
+		String jobName = job.getName();
+		lock.lock();
+		try {
+			if (!active) {
+				return CompletableFuture.failedFuture(new RejectedExecutionException("JobDispatchQueue is not running"));
+			}
+			JobState state = jobs.computeIfAbsent(jobName, name -> new JobState(name, defaultMaxConcurrentPerJob));
+			state.submitted++;
+			submitted.incrementAndGet();
+
+			if (policy == TriggerPolicy.SKIP && (state.running > 0 || state.queued > 0)) {
+				state.skipped++;
+				skipped.incrementAndGet();
+				log.info("[Dispatch] trigger of {} skipped: running={}, queued={}", jobName, state.running, state.queued);
+				return CompletableFuture.completedFuture(null);
+			}
+			if (policy == TriggerPolicy.COALESCE) {
+				for (Request request : pending) {
+					if (request.jobName().equals(jobName)) {
+						state.coalesced++;
+						coalesced.incrementAndGet();
+						log.info("[Dispatch] trigger of {} coalesced into pending request #{}", jobName, request.sequence());
+						return request.future();
+					}
+				}
+			}
+			if (pending.size() >= queueCapacity) {
+				state.rejected++;
+				rejected.incrementAndGet();
+				return CompletableFuture.failedFuture(new RejectedExecutionException(
+						"JobDispatchQueue is full (" + queueCapacity + "), rejected " + jobName));
+			}
+
+			Request request = new Request(job, jobParameters, sequence++, System.nanoTime(), new CompletableFuture<>());
+			pending.add(request);
+			state.queued++;
+			changed.signalAll();
+			return request.future();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Job별 동시 실행 한도를 바꾼다 (기본값은 batch.dispatch.max-concurrent-per-job).
+	 */
+	public void setMaxConcurrentPerJob(String jobName, int maxConcurrent) {
+		if (maxConcurrent < 1) {
+			throw new IllegalArgumentException("maxConcurrent must be positive: " + maxConcurrent);
+		}
+		lock.lock();
+		try {
+			jobs.computeIfAbsent(jobName, name -> new JobState(name, defaultMaxConcurrentPerJob)).maxConcurrent = maxConcurrent;
+			changed.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public List<JobDispatchStats> stats() {
+		lock.lock();
+		try {
+			return jobs.values().stream()
+					.sorted(Comparator.comparing(state -> state.name))
+					.map(JobState::toStats)
+					.toList();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void dispatchLoop() {
+		while (active) {
+			Request next;
+			lock.lock();
+			try {
+				next = nextEligible(System.nanoTime());
+				if (next == null) {
+					// 슬롯 반납 / 새 요청 시 signal, 대기 기간이 지나 우선순위가 바뀌는 경우를 위해 주기적으로도 깨어난다
+					changed.await(1, TimeUnit.SECONDS);
+					continue;
+				}
+				pending.remove(next);
+				JobState state = jobs.get(next.jobName());
+				state.queued--;
+				state.running++;
+				running++;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				lock.unlock();
+			}
+			launch(next);
+		}
+	}
+
+	private Request nextEligible(long now) {
+		if (running >= maxConcurrentJobs) {
+			return null;
+		}
+		Request best = null;
+		for (Request request : pending) {
+			JobState state = jobs.get(request.jobName());
+			if (state.running >= state.maxConcurrent) {
+				continue;
+			}
+			if (best == null || runsBefore(request, best, now)) {
+				best = request;
+			}
+		}
+		return best;
+	}
+
+	private boolean runsBefore(Request a, Request b, long now) {
+		boolean agedA = now - a.enqueuedAt() >= maxQueueWaitNanos;
+		boolean agedB = now - b.enqueuedAt() >= maxQueueWaitNanos;
+		if (agedA != agedB) {
+			return agedA;
+		}
+		if (!agedA) {
+			int byExpectedRun = Double.compare(jobs.get(a.jobName()).expectedRunNanos, jobs.get(b.jobName()).expectedRunNanos);
+			if (byExpectedRun != 0) {
+				return byExpectedRun < 0;
+			}
+		}
+		return a.sequence() < b.sequence();
+	}
+
+	// executor permit이 아직 반납되지 않았으면 asyncJobLauncher.start가 잠깐 블록될 수 있다 (클래스 주석 참고)
+	private void launch(Request request) {
+		long waitNanos = System.nanoTime() - request.enqueuedAt();
+		recordQueueWait(request.jobName(), waitNanos);
+		long startedAt = System.nanoTime();
+		try {
+			JobParameters jobParameters = request.jobParameters().get();
+			log.info("[Dispatch] launching {} (#{}) after {}ms in queue", request.jobName(), request.sequence(),
+					TimeUnit.NANOSECONDS.toMillis(waitNanos));
+			asyncJobLauncher.start(request.job(), jobParameters)
+					.whenComplete((jobExecution, error) -> complete(request, startedAt, jobExecution, error));
+		} catch (RuntimeException e) {
+			complete(request, startedAt, null, e);
+		}
+	}
+
+	private void complete(Request request, long startedAt, JobExecution jobExecution, Throwable error) {
+		long runNanos = System.nanoTime() - startedAt;
+		boolean failed = error != null || jobExecution.getStatus().isUnsuccessful();
+		lock.lock();
+		try {
+			JobState state = jobs.get(request.jobName());
+			state.running--;
+			running--;
+			state.recordRun(runNanos, failed);
+			changed.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		MeterRegistry meterRegistry = registry;
+		if (meterRegistry != null) {
+			Timer.builder("batch.dispatch.run")
+					.tag("job", request.jobName())
+					.tag("outcome", failed ? "failed" : "completed")
+					.register(meterRegistry)
+					.record(runNanos, TimeUnit.NANOSECONDS);
+		}
+		if (error != null) {
+			request.future().completeExceptionally(error);
+		} else {
+			request.future().complete(jobExecution);
+		}
+	}
+
+	private void recordQueueWait(String jobName, long waitNanos) {
+		lock.lock();
+		try {
+			jobs.get(jobName).recordWait(waitNanos);
+		} finally {
+			lock.unlock();
+		}
+		MeterRegistry meterRegistry = registry;
+		if (meterRegistry != null) {
+			Timer.builder("batch.dispatch.queue_wait")
+					.tag("job", jobName)
+					.register(meterRegistry)
+					.record(waitNanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private int queuedCount() {
+		lock.lock();
+		try {
+			return pending.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private int runningCount() {
+		lock.lock();
+		try {
+			return running;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		this.registry = registry;
+		Gauge.builder("batch.dispatch.queued", this, JobDispatchQueue::queuedCount)
+				.description("Job requests waiting in the dispatch queue")
+				.register(registry);
+		Gauge.builder("batch.dispatch.running", this, JobDispatchQueue::runningCount)
+				.description("Jobs launched by the dispatch queue and still running")
+				.register(registry);
+		FunctionCounter.builder("batch.dispatch.triggers", submitted, AtomicLong::get).tag("outcome", "submitted").register(registry);
+		FunctionCounter.builder("batch.dispatch.triggers", coalesced, AtomicLong::get).tag("outcome", "coalesced").register(registry);
+		FunctionCounter.builder("batch.dispatch.triggers", skipped, AtomicLong::get).tag("outcome", "skipped").register(registry);
+		FunctionCounter.builder("batch.dispatch.triggers", rejected, AtomicLong::get).tag("outcome", "rejected").register(registry);
+	}
+
+	@Override
+	public void start() {
+		active = true;
+		dispatcher = Thread.ofVirtual().name("job-dispatcher").start(this::dispatchLoop);
+		log.info("JobDispatchQueue started: maxConcurrentJobs={}, maxConcurrentPerJob={}, triggerPolicy={}, queueCapacity={}",
+				maxConcurrentJobs, defaultMaxConcurrentPerJob, defaultTriggerPolicy, queueCapacity);
+	}
+
+	@Override
+	public void stop() {
+		List<Request> dropped;
+		lock.lock();
+		try {
+			active = false;
+			dropped = new ArrayList<>(pending);
+			pending.clear();
+			jobs.values().forEach(state -> state.queued = 0);
+			changed.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		// 실행 중인 Job은 AsyncJobLauncher가 종료 시 기다린다. 아직 시작하지 않은 요청만 취소
+		dropped.forEach(request -> request.future().cancel(false));
+		if (!dropped.isEmpty()) {
+			log.warn("JobDispatchQueue stopped with {} pending requests cancelled", dropped.size());
+		}
+		try {
+			if (dispatcher != null) {
+				dispatcher.join();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return active;
+	}
+
+	private record Request(Job job, Supplier<JobParameters> jobParameters, long sequence, long enqueuedAt,
+						   CompletableFuture<JobExecution> future) {
+
+		String jobName() {
+			return job.getName();
+		}
+	}
+
+	private static final class JobState {
+
+		private final String name;
+		private int maxConcurrent;
+		private int queued;
+		private int running;
+		private long submitted;
+		private long coalesced;
+		private long skipped;
+		private long rejected;
+		private long completed;
+		private long failed;
+		private long waitCount;
+		private long totalWaitNanos;
+		private long maxWaitNanos;
+		private long totalRunNanos;
+		private double expectedRunNanos;
+
+		private JobState(String name, int maxConcurrent) {
+			this.name = name;
+			this.maxConcurrent = maxConcurrent;
+		}
+
+		private void recordWait(long waitNanos) {
+			waitCount++;
+			totalWaitNanos += waitNanos;
+			maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+		}
+
+		private void recordRun(long runNanos, boolean runFailed) {
+			long runs = completed + failed;
+			expectedRunNanos = runs == 0 ? runNanos : EWMA_ALPHA * runNanos + (1 - EWMA_ALPHA) * expectedRunNanos;
+			totalRunNanos += runNanos;
+			if (runFailed) {
+				failed++;
+			} else {
+				completed++;
+			}
+		}
+
+		private JobDispatchStats toStats() {
+			long runs = completed + failed;
+			return new JobDispatchStats(name, queued, running, submitted, coalesced, skipped, rejected, completed, failed,
+					waitCount == 0 ? 0 : toMillis(totalWaitNanos) / waitCount,
+					toMillis(maxWaitNanos),
+					runs == 0 ? 0 : toMillis(totalRunNanos) / runs,
+					toMillis(expectedRunNanos));
+		}
+
+		private static double toMillis(double nanos) {
+			return nanos / 1_000_000.0;
+		}
+	}
+}
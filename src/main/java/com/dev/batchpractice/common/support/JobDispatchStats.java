@@ -0,0 +1,21 @@
+package com.dev.batchpractice.common.support;
+
+/**
+ * JobDispatchQueue의 Job별 통계 스냅샷. 시간은 모두 ms.
+ *
+ * @param expectedRunMs 우선순위 계산에 쓰는 예상 실행 시간 (완료된 실행 시간의 EWMA, 실행 이력이 없으면 0)
+ */
+public record JobDispatchStats(String jobName,
+							   int queued,
+							   int running,
+							   long submitted,
+							   long coalesced,
+							   long skipped,
+							   long rejected,
+							   long completed,
+							   long failed,
+							   double meanQueueWaitMs,
+							   double maxQueueWaitMs,
+							   double meanRunMs,
+							   double expectedRunMs) {
+}
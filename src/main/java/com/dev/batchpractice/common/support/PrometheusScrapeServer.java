@@ -0,0 +1,76 @@
+package com.dev.batchpractice.common.support;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * PrometheusMeterRegistry의 scrape 결과를 {@code GET http://localhost:{port}/metrics}로 노출하는 경량 HTTP 서버.
+ * <p>
+ * 배치 애플리케이션에 웹 서버를 추가하지 않기 위해 JDK 내장 HttpServer를 사용한다.
+ * 포트를 열지 못해도 배치 실행은 계속되도록 경고 로그만 남긴다.
+ */
+@Slf4j
+@Component
+public class PrometheusScrapeServer implements SmartLifecycle {
+
+	private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+	private final PrometheusMeterRegistry registry;
+	private final boolean enabled;
+	private final int port;
+
+	private HttpServer server;
+
+	public PrometheusScrapeServer(PrometheusMeterRegistry registry,
+								  @Value("${batch.metrics.prometheus.enabled:false}") boolean enabled,
+								  @Value("${batch.metrics.prometheus.port:9464}") int port) {
+		this.registry = registry;
+		this.enabled = enabled;
+		this.port = port;
+	}
+
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			server = HttpServer.create(new InetSocketAddress(port), 0);
+			server.createContext("/metrics", exchange -> {
+				byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+				exchange.sendResponseHeaders(200, body.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(body);
+				}
+			});
+			server.start();
+			log.info("Prometheus metrics endpoint started: http://localhost:{}/metrics", port);
+		} catch (IOException e) {
+			server = null;
+			log.warn("Failed to start Prometheus metrics endpoint on port {}: {}", port, e.getMessage());
+		}
+	}
+
+	@Override
+	public void stop() {
+		if (server != null) {
+			server.stop(0);
+			server = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return server != null;
+	}
+}
@@ -0,0 +1,13 @@
+package com.dev.batchpractice.common.support;
+
+/**
+ * Step / 파티션 / Job 실행에 사용할 스레드 종류.
+ * <ul>
+ *     <li>PLATFORM: OS 스레드. CPU를 오래 쓰는 작업이나 pinning이 심한 경로에 적합</li>
+ *     <li>VIRTUAL: 가상 스레드. 대부분의 시간을 JDBC / 외부 API I/O 대기로 보내는 작업에 적합</li>
+ * </ul>
+ */
+public enum ThreadMode {
+	PLATFORM,
+	VIRTUAL
+}
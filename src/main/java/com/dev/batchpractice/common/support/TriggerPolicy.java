@@ -0,0 +1,14 @@
+package com.dev.batchpractice.common.support;
+
+/**
+ * 같은 Job이 이미 실행 중이거나 대기 중일 때 새 트리거를 어떻게 다룰지 (JobDispatchQueue).
+ * <p>
+ * - QUEUE : 항상 큐에 넣는다 (Job별 동시 실행 한도 안에서 순서대로 실행)<br>
+ * - COALESCE : 대기 중인 요청이 있으면 그 요청에 합친다 (Job당 대기는 최대 1건, 실행 중이면 끝난 뒤 1번 더 실행)<br>
+ * - SKIP : 실행 중이거나 대기 중이면 이번 트리거를 버린다
+ */
+public enum TriggerPolicy {
+	QUEUE,
+	COALESCE,
+	SKIP
+}
@@ -0,0 +1,129 @@
+package com.dev.batchpractice.common.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * JFR {@code jdk.VirtualThreadPinned} 이벤트를 구독해서 가상 스레드가 캐리어 스레드에 고정(pinning)된 지점을 보고한다.
+ * <p>
+ * 가상 스레드가 블로킹되는 동안 캐리어에서 내려오지 못하면 캐리어 수(기본 CPU 코어 수)만큼만 동시에 대기할 수 있어
+ * 가상 스레드의 장점이 사라진다. JDK 24부터 synchronized 블록 안의 블로킹은 더 이상 pinning을 일으키지 않지만,
+ * 네이티브 프레임 / 클래스 초기화 중 블로킹 등은 여전히 고정되므로 JDBC 드라이버 경로를 점검할 때 사용한다.
+ * <ul>
+ *     <li>threshold 이상 고정된 이벤트만 수집 (JFR 설정 {@code threshold})</li>
+ *     <li>가장 가까운 애플리케이션 / 라이브러리 프레임(java.*, jdk.*, sun.* 제외) 기준으로 집계,
+ *         지점마다 처음 한 번만 스택과 함께 WARN 로그</li>
+ *     <li>지표: {@code batch.virtual_thread.pinned} (Timer), 종료 시 지점별 횟수 상위 10개 로그</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+	private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+	private static final int LOGGED_FRAMES = 15;
+	private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final Duration threshold;
+	private final Map<String, LongAdder> pinnedBySite = new ConcurrentHashMap<>();
+
+	private RecordingStream recordingStream;
+
+	public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+									   @Value("${batch.diagnostics.pinning.enabled:false}") boolean enabled,
+									   @Value("${batch.diagnostics.pinning.threshold:20ms}") Duration threshold) {
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+		this.threshold = threshold;
+	}
+
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		Timer pinned = Timer.builder("batch.virtual_thread.pinned").register(meterRegistry);
+		try {
+			recordingStream = new RecordingStream();
+			recordingStream.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+			recordingStream.onEvent(EVENT_NAME, event -> onPinned(event, pinned));
+			recordingStream.startAsync();
+			log.info("Virtual thread pinning monitor started (threshold={})", threshold);
+		} catch (RuntimeException e) {
+			recordingStream = null;
+			log.warn("Failed to start virtual thread pinning monitor: {}", e.getMessage());
+		}
+	}
+
+	private void onPinned(RecordedEvent event, Timer pinned) {
+		pinned.record(event.getDuration());
+		List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+		String site = pinnedSite(frames);
+		LongAdder count = pinnedBySite.computeIfAbsent(site, key -> new LongAdder());
+		count.increment();
+
+		if (count.sum() == 1) {
+			String stack = frames.stream()
+					.limit(LOGGED_FRAMES)
+					.map(frame -> "\tat " + describe(frame))
+					.collect(Collectors.joining(System.lineSeparator()));
+			log.warn("[Pinning] virtual thread pinned for {}ms at {}{}{}",
+					event.getDuration().toMillis(), site, System.lineSeparator(), stack);
+		} else {
+			log.debug("[Pinning] virtual thread pinned for {}ms at {}", event.getDuration().toMillis(), site);
+		}
+	}
+
+	private static String pinnedSite(List<RecordedFrame> frames) {
+		return frames.stream()
+				.filter(frame -> frame.getMethod() != null)
+				.filter(frame -> JDK_PACKAGES.stream().noneMatch(frame.getMethod().getType().getName()::startsWith))
+				.findFirst()
+				.or(() -> frames.stream().filter(frame -> frame.getMethod() != null).findFirst())
+				.map(VirtualThreadPinningMonitor::describe)
+				.orElse("unknown");
+	}
+
+	private static String describe(RecordedFrame frame) {
+		return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+	}
+
+	@Override
+	public void stop() {
+		if (recordingStream == null) {
+			return;
+		}
+		recordingStream.close();
+		recordingStream = null;
+		if (!pinnedBySite.isEmpty()) {
+			String summary = pinnedBySite.entrySet().stream()
+					.sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum()).reversed())
+					.limit(10)
+					.map(entry -> entry.getValue().sum() + "x " + entry.getKey())
+					.collect(Collectors.joining(", "));
+			log.info("[Pinning] summary (top 10): {}", summary);
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return recordingStream != null;
+	}
+}
@@ -0,0 +1,46 @@
+package com.dev.batchpractice.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * skip된 아이템 보관 테이블 (DeadLetterSkipListener).
+ * 테이블 생성용 매핑이며, 저장은 청크 트랜잭션 안에서 JdbcTemplate으로 처리한다.
+ */
+@Getter
+@Entity
+@Table(name = "batch_dead_letter", indexes = @Index(name = "idx_batch_dead_letter_job_execution_id", columnList = "job_execution_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchDeadLetter {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "job_execution_id")
+	private Long jobExecutionId;
+
+	@Column(name = "step_name", nullable = false)
+	private String stepName;
+
+	@Column(name = "input_id")
+	private Long inputId;
+
+	@Column(name = "input_data", columnDefinition = "TEXT")
+	private String inputData;
+
+	// READ | PROCESS | WRITE
+	@Column(name = "phase", nullable = false, length = 10)
+	private String phase;
+
+	@Column(name = "error_type", nullable = false)
+	private String errorType;
+
+	@Column(name = "error_message", length = 1000)
+	private String errorMessage;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+}
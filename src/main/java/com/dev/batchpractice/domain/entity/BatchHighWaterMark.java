@@ -0,0 +1,33 @@
+package com.dev.batchpractice.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 증분(DELTA) 처리의 high-water mark.
+ * 이름(Job 이름 등)별로 "여기까지 처리했다"는 기준 시각을 실행 간에 보관한다.
+ */
+@Getter
+@Entity
+@Table(name = "batch_high_water_mark")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BatchHighWaterMark {
+
+	@Id
+	@Column(name = "name", length = 100)
+	private String name;
+
+	@Column(name = "watermark", nullable = false)
+	private LocalDateTime watermark;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	public void advanceTo(LocalDateTime watermark) {
+		this.watermark = watermark;
+		this.updatedAt = LocalDateTime.now();
+	}
+}
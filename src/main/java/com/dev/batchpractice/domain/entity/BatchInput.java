@@ -4,11 +4,18 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.sql.ResultSet;
+import java.time.LocalDateTime;
 
 @Builder
 @Getter
 @Entity
-@Table(name = "batch_input")
+// processed = false 인 미처리 구간만 id 순으로 스캔할 수 있도록 (processed, id) 복합 인덱스
+// PostgreSQL에서는 partial index(CREATE INDEX ... ON batch_input (id) WHERE processed = false)로 대체하면 더 작게 유지된다
+// DELTA 모드는 updated_at 구간으로 조회하므로 (updated_at, id) 인덱스를 둔다
+@Table(name = "batch_input", indexes = {
+		@Index(name = "idx_batch_input_processed_id", columnList = "processed, id"),
+		@Index(name = "idx_batch_input_updated_at_id", columnList = "updated_at, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class BatchInput {
@@ -30,10 +37,28 @@ public class BatchInput {
 	@Builder.Default
 	private Boolean processed = false;
 
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	// 입력 데이터가 생성/변경된 시각 (processed 갱신은 변경으로 보지 않음)
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	@PrePersist
+	void onCreate() {
+		LocalDateTime now = LocalDateTime.now();
+		if (createdAt == null) {
+			createdAt = now;
+		}
+		if (updatedAt == null) {
+			updatedAt = createdAt;
+		}
+	}
+
 	public BatchInput(ResultSet rs) {
 		try {
 			this.id = rs.getLong("id");
-//			this.inputName = rs.getString("input_name");
+			this.inputName = rs.getString("input_name");
 			this.data = rs.getString("data");
 //			this.inputStatus = rs.getInt("input_status");
 			this.processed = rs.getBoolean("processed");
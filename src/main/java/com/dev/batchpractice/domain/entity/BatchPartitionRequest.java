@@ -0,0 +1,46 @@
+package com.dev.batchpractice.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원격 파티셔닝 요청 큐 (JdbcPartitionRequestChannel).
+ * 테이블 생성용 매핑이며, 요청 등록/선점/완료는 JdbcTemplate으로 처리한다.
+ */
+@Getter
+@Entity
+@Table(name = "batch_partition_request", indexes = @Index(name = "idx_batch_partition_request_status_id", columnList = "status, id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchPartitionRequest {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "job_execution_id", nullable = false)
+	private Long jobExecutionId;
+
+	@Column(name = "step_execution_id", nullable = false)
+	private Long stepExecutionId;
+
+	@Column(name = "step_name", nullable = false)
+	private String stepName;
+
+	// PENDING → CLAIMED → DONE (Manager timeout 시 PENDING → CANCELLED)
+	@Column(name = "status", nullable = false, length = 20)
+	private String status;
+
+	@Column(name = "worker_id")
+	private String workerId;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "claimed_at")
+	private LocalDateTime claimedAt;
+
+	@Column(name = "completed_at")
+	private LocalDateTime completedAt;
+}
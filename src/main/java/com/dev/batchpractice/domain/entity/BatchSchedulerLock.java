@@ -0,0 +1,34 @@
+package com.dev.batchpractice.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 트리거별 리스 락 (JdbcLeaseLock).
+ * 테이블 생성용 매핑이며, 획득/반납은 JdbcTemplate으로 처리한다.
+ */
+@Getter
+@Entity
+@Table(name = "batch_scheduler_lock")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchSchedulerLock {
+
+	@Id
+	@Column(name = "lock_name", length = 100)
+	private String lockName;
+
+	@Column(name = "owner", nullable = false)
+	private String owner;
+
+	// 획득할 때마다 1씩 증가, 실행 직전에 자신의 토큰이 아직 최신인지 확인하는 데 쓴다
+	@Column(name = "fencing_token", nullable = false)
+	private Long fencingToken;
+
+	@Column(name = "locked_at", nullable = false)
+	private LocalDateTime lockedAt;
+
+	@Column(name = "locked_until", nullable = false)
+	private LocalDateTime lockedUntil;
+}
@@ -0,0 +1,27 @@
+package com.dev.batchpractice.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 노드 heartbeat (SchedulerNodeRegistry). 트리거를 노드에 해시로 나눌 때 살아 있는 노드 목록으로 쓴다.
+ * 테이블 생성용 매핑이며, 갱신은 JdbcTemplate으로 처리한다.
+ */
+@Getter
+@Entity
+@Table(name = "batch_scheduler_node")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchSchedulerNode {
+
+	@Id
+	@Column(name = "node_id", length = 200)
+	private String nodeId;
+
+	@Column(name = "started_at", nullable = false)
+	private LocalDateTime startedAt;
+
+	@Column(name = "heartbeat_at", nullable = false)
+	private LocalDateTime heartbeatAt;
+}
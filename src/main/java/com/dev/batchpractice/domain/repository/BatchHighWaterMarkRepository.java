@@ -0,0 +1,9 @@
+package com.dev.batchpractice.domain.repository;
+
+import com.dev.batchpractice.domain.entity.BatchHighWaterMark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BatchHighWaterMarkRepository extends JpaRepository<BatchHighWaterMark, String> {
+}
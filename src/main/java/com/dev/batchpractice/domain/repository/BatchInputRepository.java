@@ -1,17 +1,24 @@
 package com.dev.batchpractice.domain.repository;
 
 import com.dev.batchpractice.domain.entity.BatchInput;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface BatchInputRepository extends JpaRepository<BatchInput, Long> {
 
 	@Query("SELECT b FROM BatchInput b WHERE b.processed = false ORDER BY b.id")
 	Page<BatchInput> findUnprocessedInputs(Pageable pageable);
 
+	@Query("SELECT b FROM BatchInput b WHERE b.processed = false AND b.id > :lastId ORDER BY b.id")
+	List<BatchInput> findUnprocessedInputsAfter(@Param("lastId") Long lastId, Limit limit);
+
 	long countByProcessedFalse();
 }
@@ -0,0 +1,18 @@
+package com.dev.batchpractice.domain.service;
+
+/**
+ * 외부 API 캐시 사용 방식 (JobParameter {@code apiCacheMode}).
+ * <p>
+ * - USE : 캐시에 있으면 캐시 값, 없으면 호출 후 저장 (기본값)<br>
+ * - BYPASS : 캐시를 읽지도 쓰지도 않고 항상 외부 API 호출<br>
+ * - REFRESH : 항상 외부 API를 호출하고 결과로 캐시를 갱신
+ */
+public enum ApiCacheMode {
+	USE,
+	BYPASS,
+	REFRESH;
+
+	public static ApiCacheMode from(String value) {
+		return value == null || value.isBlank() ? USE : valueOf(value.toUpperCase());
+	}
+}
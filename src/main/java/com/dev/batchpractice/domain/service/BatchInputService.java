@@ -8,8 +8,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -33,6 +36,18 @@ public class BatchInputService {
 		return batchInputRepository.findUnprocessedInputs(pageable);
 	}
 
+	/**
+	 * 처리되지 않은 데이터를 keyset 방식으로 조회 (lastId 다음부터 PAGE_SIZE 건)
+	 * OFFSET을 쓰지 않으므로 뒤쪽 페이지로 갈수록 느려지지 않고, 도중에 processed가 바뀌어도 행을 건너뛰지 않는다.
+	 */
+	public List<BatchInput> findUnprocessedInputsAfter(long lastId) {
+		return findUnprocessedInputsAfter(lastId, PAGE_SIZE);
+	}
+
+	public List<BatchInput> findUnprocessedInputsAfter(long lastId, int pageSize) {
+		return batchInputRepository.findUnprocessedInputsAfter(lastId, Limit.of(pageSize));
+	}
+
 	/**
 	 * 처리되지 않은 데이터 개수 조회
 	 */
@@ -0,0 +1,153 @@
+package com.dev.batchpractice.domain.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * ExternalApiClient.callExternalApi 앞단의 캐시. 기본으로 ResilientExternalApiService(@Primary)를 감싼다.
+ * 캐시에는 성공한 응답만 남으므로, 타임아웃 / 재시도 / 서킷 브레이커는 miss일 때만 동작한다.
+ * <p>
+ * - 크기(maximum-size) + TTL(expire-after-write) 기반 eviction (Caffeine)<br>
+ * - 같은 key에 대한 동시 miss는 하나의 호출로 합쳐진다 (single-flight).
+ *   AsyncCache는 key마다 진행 중인 CompletableFuture를 먼저 저장하므로, 뒤이어 들어온 호출은 같은 Future를 기다린다.<br>
+ * - 실패한 호출은 캐시에 남지 않는다 (실패한 Future는 자동 제거)<br>
+ * - {@link #callExternalApiAsync}는 miss를 단건 호출 대신 주어진 loader(예: ExternalApiMicroBatcher)로 보낸다<br>
+ * - persistence-file을 지정하면 종료 시 캐시를 파일로 저장하고 다음 기동 시 다시 읽는다 (TTL은 로드 시점부터 다시 계산)
+ */
+@Slf4j
+@Service
+public class CachedExternalApiService implements MeterBinder, InitializingBean, DisposableBean {
+
+	private final ExternalApiClient externalApiService;
+	private final Path persistenceFile;
+	private final ExecutorService loaderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+	private final AsyncCache<String, String> cache;
+
+	public CachedExternalApiService(ExternalApiClient externalApiService,
+									@Value("${batch.external-api.cache.maximum-size:100000}") long maximumSize,
+									@Value("${batch.external-api.cache.ttl:6h}") Duration ttl,
+									@Value("${batch.external-api.cache.persistence-file:}") String persistenceFile) {
+		this.externalApiService = externalApiService;
+		this.persistenceFile = persistenceFile.isBlank() ? null : Path.of(persistenceFile);
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(ttl)
+				.executor(loaderExecutor)
+				.recordStats()
+				.buildAsync();
+		log.info("External API cache initialized. maximumSize={}, ttl={}, persistenceFile={}", maximumSize, ttl, this.persistenceFile);
+	}
+
+	public String callExternalApi(String inputData, ApiCacheMode mode) {
+		return switch (mode) {
+			case BYPASS -> externalApiService.callExternalApi(inputData);
+			case REFRESH -> {
+				CompletableFuture<String> refreshed = CompletableFuture.supplyAsync(
+						() -> externalApiService.callExternalApi(inputData), loaderExecutor);
+				cache.put(inputData, refreshed);
+				yield join(refreshed);
+			}
+			case USE -> join(cache.get(inputData, key -> externalApiService.callExternalApi(key)));
+		};
+	}
+
+	/**
+	 * callExternalApi와 같은 캐시 규칙으로 동작하되, 외부 API 호출을 loader의 CompletableFuture로 대신한다.
+	 * USE 모드의 hit는 캐시 값으로 바로 완료되고, miss만 loader로 넘어간다 (같은 key의 동시 miss는 loader 호출 1번).
+	 */
+	public CompletableFuture<String> callExternalApiAsync(String inputData, ApiCacheMode mode,
+														  Function<String, CompletableFuture<String>> loader) {
+		return switch (mode) {
+			case BYPASS -> loader.apply(inputData);
+			case REFRESH -> {
+				CompletableFuture<String> refreshed = loader.apply(inputData);
+				cache.put(inputData, refreshed);
+				yield refreshed;
+			}
+			case USE -> cache.get(inputData, (key, executor) -> loader.apply(key));
+		};
+	}
+
+	public CacheStats stats() {
+		return cache.synchronous().stats();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("batch.external.api.cache.requests", this, service -> service.stats().hitCount())
+				.tag("result", "hit")
+				.register(registry);
+		FunctionCounter.builder("batch.external.api.cache.requests", this, service -> service.stats().missCount())
+				.tag("result", "miss")
+				.register(registry);
+		FunctionCounter.builder("batch.external.api.cache.evictions", this, service -> service.stats().evictionCount())
+				.register(registry);
+		Gauge.builder("batch.external.api.cache.size", this, service -> service.cache.synchronous().estimatedSize())
+				.register(registry);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void afterPropertiesSet() {
+		if (persistenceFile == null || !Files.exists(persistenceFile)) {
+			return;
+		}
+		try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(persistenceFile))) {
+			Map<String, String> entries = (Map<String, String>) in.readObject();
+			cache.synchronous().putAll(entries);
+			log.info("Loaded {} external API cache entries from {}", entries.size(), persistenceFile);
+		} catch (IOException | ClassNotFoundException e) {
+			log.warn("Failed to load external API cache from {}: {}", persistenceFile, e.getMessage());
+		}
+	}
+
+	@Override
+	public void destroy() {
+		log.info("External API cache stats: {}", stats());
+		if (persistenceFile != null) {
+			Map<String, String> entries = new HashMap<>(cache.synchronous().asMap());
+			try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(persistenceFile))) {
+				out.writeObject(entries);
+				log.info("Saved {} external API cache entries to {}", entries.size(), persistenceFile);
+			} catch (IOException e) {
+				log.warn("Failed to save external API cache to {}: {}", persistenceFile, e.getMessage());
+			}
+		}
+		loaderExecutor.close();
+	}
+
+	private String join(CompletableFuture<String> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
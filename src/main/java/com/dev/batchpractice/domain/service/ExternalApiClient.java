@@ -0,0 +1,10 @@
+package com.dev.batchpractice.domain.service;
+
+/**
+ * 단건 외부 API 호출 계약.
+ * 원본 호출({@link ExternalApiService})과 타임아웃 / 재시도 / 서킷 브레이커를 씌운 호출({@link ResilientExternalApiService})이 구현한다.
+ */
+public interface ExternalApiClient {
+
+	String callExternalApi(String inputData);
+}
@@ -0,0 +1,114 @@
+package com.dev.batchpractice.domain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단건 호출 요청을 모아서 bulk API({@link ExternalApiService#callExternalApi(List)}) 한 번으로 보내는 micro-batcher.
+ * <p>
+ * 디스패처 스레드가 첫 요청이 들어온 시점부터 {@code max-wait} 동안, 또는 {@code max-size}건이 찰 때까지 요청을 모은 뒤
+ * bulk 요청을 가상 스레드로 보내고 곧바로 다음 배치를 모은다.
+ * 응답은 요청 순서대로 각 요청의 Future에 나눠서 전달한다. bulk 호출이 실패하면 해당 배치의 Future가 모두 실패한다.
+ * bulk 요청 한 번이 {@link ExternalApiThrottle}의 토큰 1개 / 동시 호출 자리 1개를 쓴다 (파트너 API 쿼터는 요청 수 기준).
+ */
+@Slf4j
+@Service
+public class ExternalApiMicroBatcher implements DisposableBean {
+
+	private final ExternalApiService externalApiService;
+	private final ExternalApiThrottle throttle;
+	private final int maxBatchSize;
+	private final long maxWaitNanos;
+
+	private final BlockingQueue<PendingCall> queue = new LinkedBlockingQueue<>();
+	private final ExecutorService requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Thread dispatcher;
+	private volatile boolean running = true;
+
+	public ExternalApiMicroBatcher(ExternalApiService externalApiService,
+								   ExternalApiThrottle throttle,
+								   @Value("${batch.external-api.micro-batch.max-size:50}") int maxBatchSize,
+								   @Value("${batch.external-api.micro-batch.max-wait:20ms}") Duration maxWait) {
+		this.externalApiService = externalApiService;
+		this.throttle = throttle;
+		this.maxBatchSize = maxBatchSize;
+		this.maxWaitNanos = maxWait.toNanos();
+		this.dispatcher = Thread.ofVirtual().name("api-micro-batcher").start(this::dispatchLoop);
+		log.info("ExternalApiMicroBatcher initialized. maxBatchSize={}, maxWait={}", maxBatchSize, maxWait);
+	}
+
+	public CompletableFuture<String> submit(String inputData) {
+		if (!running) {
+			return CompletableFuture.failedFuture(new IllegalStateException("ExternalApiMicroBatcher is stopped"));
+		}
+		CompletableFuture<String> future = new CompletableFuture<>();
+		queue.add(new PendingCall(inputData, future));
+		return future;
+	}
+
+	private void dispatchLoop() {
+		while (running) {
+			try {
+				PendingCall first = queue.poll(100, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+
+				List<PendingCall> batch = new ArrayList<>(maxBatchSize);
+				batch.add(first);
+				long deadline = System.nanoTime() + maxWaitNanos;
+				while (batch.size() < maxBatchSize) {
+					long remaining = deadline - System.nanoTime();
+					PendingCall next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+
+				requestExecutor.execute(() -> send(batch));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private void send(List<PendingCall> batch) {
+		try {
+			List<String> inputs = batch.stream().map(PendingCall::inputData).toList();
+			List<String> responses = throttle.call(() -> externalApiService.callExternalApi(inputs));
+			for (int i = 0; i < batch.size(); i++) {
+				batch.get(i).future().complete(responses.get(i));
+			}
+		} catch (RuntimeException e) {
+			batch.forEach(call -> call.future().completeExceptionally(e));
+		}
+	}
+
+	@Override
+	public void destroy() {
+		running = false;
+		dispatcher.interrupt();
+		PendingCall call;
+		while ((call = queue.poll()) != null) {
+			call.future().completeExceptionally(new IllegalStateException("ExternalApiMicroBatcher is stopped"));
+		}
+		requestExecutor.close();
+	}
+
+	private record PendingCall(String inputData, CompletableFuture<String> future) {
+	}
+}
@@ -1,23 +1,56 @@
 package com.dev.batchpractice.domain.service;
 
+import com.dev.batchpractice.domain.service.resilience.ExternalApiException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Service
 @Slf4j
-public class ExternalApiService {
+public class ExternalApiService implements ExternalApiClient, MeterBinder {
+
+	// 현재 응답을 기다리는 중인 호출 수 (batch.external.api.in_flight 게이지)
+	private final AtomicInteger inFlightCalls = new AtomicInteger();
+
+	// 응답 시간 모델: 요청당 고정 비용 + (bulk 요청일 때) 아이템당 비용
+	private final long fixedLatencyMs;
+	private final long perItemLatencyMs;
+	// 장애 시뮬레이션: 단건 호출이 이 비율로 실패한다 (0.0 ~ 1.0)
+	private final double failureRate;
+
+	public ExternalApiService(@Value("${batch.external-api.latency.fixed-ms:150}") long fixedLatencyMs,
+							  @Value("${batch.external-api.latency.per-item-ms:2}") long perItemLatencyMs,
+							  @Value("${batch.external-api.failure-rate:0}") double failureRate) {
+		this.fixedLatencyMs = fixedLatencyMs;
+		this.perItemLatencyMs = perItemLatencyMs;
+		this.failureRate = failureRate;
+	}
 
 	/**
 	 * 외부 API 호출을 시뮬레이션합니다.
-	 * 실제 응답 시간 150ms를 고정으로 시뮬레이션합니다.
+	 * 실제 응답 시간 150ms(fixed-ms)를 고정으로 시뮬레이션합니다.
 	 *
 	 * @param inputData 처리할 입력 데이터
 	 * @return API 응답 데이터
 	 */
+	@Override
 	public String callExternalApi(String inputData) {
+		inFlightCalls.incrementAndGet();
 		try {
 			// 150ms 응답 시간 시뮬레이션
-			Thread.sleep(150);
+			Thread.sleep(fixedLatencyMs);
+
+			if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+				throw new ExternalApiException("Simulated external API failure for data: " + inputData);
+			}
 			
 			// 실제 API 호출 로직이 여기에 들어갑니다
 			// 예: RestTemplate, WebClient 등을 사용한 HTTP 호출
@@ -28,7 +61,37 @@ public class ExternalApiService {
 			return "Processed: " + inputData;
 		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
-			throw new RuntimeException("API call interrupted", e);
+			throw new ExternalApiException("API call interrupted", e);
+		} finally {
+			inFlightCalls.decrementAndGet();
+		}
+	}
+
+	/**
+	 * 여러 입력을 한 번의 요청으로 보내는 bulk API 호출을 시뮬레이션합니다.
+	 * 응답 시간은 "고정 비용(fixed-ms) + 아이템 수 × 아이템당 비용(per-item-ms)"이며,
+	 * 응답은 요청과 같은 순서로 반환됩니다.
+	 *
+	 * @param inputs 처리할 입력 데이터 목록
+	 * @return 입력 순서와 같은 순서의 API 응답 목록
+	 */
+	public List<String> callExternalApi(List<String> inputs) {
+		inFlightCalls.incrementAndGet();
+		try {
+			Thread.sleep(fixedLatencyMs + perItemLatencyMs * inputs.size());
+
+			log.info("External bulk API called for {} items", inputs.size());
+
+			List<String> responses = new ArrayList<>(inputs.size());
+			for (String inputData : inputs) {
+				responses.add("Processed: " + inputData);
+			}
+			return responses;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ExternalApiException("API call interrupted", e);
+		} finally {
+			inFlightCalls.decrementAndGet();
 		}
 	}
 
@@ -42,4 +105,15 @@ public class ExternalApiService {
 		// API 응답을 처리하여 최종 데이터로 변환
 		return apiResponse;
 	}
+
+	public int getInFlightCalls() {
+		return inFlightCalls.get();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("batch.external.api.in_flight", inFlightCalls, AtomicInteger::get)
+				.description("External API calls waiting for a response")
+				.register(registry);
+	}
 }
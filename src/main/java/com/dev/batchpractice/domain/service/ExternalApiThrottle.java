@@ -0,0 +1,177 @@
+package com.dev.batchpractice.domain.service;
+
+import com.dev.batchpractice.domain.service.resilience.AimdConcurrencyLimiter;
+import com.dev.batchpractice.domain.service.resilience.CallNotPermittedException;
+import com.dev.batchpractice.domain.service.resilience.ExternalApiException;
+import com.dev.batchpractice.domain.service.resilience.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 호출량 제어: 토큰 버킷(초당 호출 수) + AIMD 동시 호출 한도.
+ * <p>
+ * 싱글톤 하나를 모든 스레드 / 파티션이 공유하므로 한 JVM 안의 전체 호출량이 파트너 API 쿼터 안에 머문다.
+ * resilience 스위치와 관계없이 단건 호출(ResilientExternalApiService)과 bulk 호출(ExternalApiMicroBatcher) 모두 거친다.
+ * 원격 파티션 Worker처럼 JVM이 여러 개라면 JVM마다 따로 제한되므로 rate-limit을 JVM 수로 나눠 설정해야 한다.
+ * 기본값은 properties, Job 단위 설정은 {@link #configure}로 덮어쓴다(ExternalApiThrottleListener).
+ */
+@Slf4j
+@Component
+public class ExternalApiThrottle implements MeterBinder {
+
+	private final double defaultRatePerSecond;
+	private final int defaultBurst;
+	private final boolean defaultAdaptive;
+	private final int defaultMaxConcurrency;
+	private final Duration rateLimitMaxWait;
+	private final Duration concurrencyMaxWait;
+
+	private final TokenBucketRateLimiter rateLimiter;
+	private final AimdConcurrencyLimiter concurrencyLimiter;
+	private volatile boolean adaptive;
+
+	private final AtomicLong ratePermitted = new AtomicLong();
+	private final AtomicLong rateRejected = new AtomicLong();
+	private final AtomicLong rateWaitCount = new AtomicLong();
+	private final AtomicLong rateWaitNanos = new AtomicLong();
+	private final AtomicLong concurrencyPermitted = new AtomicLong();
+	private final AtomicLong concurrencyRejected = new AtomicLong();
+	private final AtomicLong concurrencyWaitNanos = new AtomicLong();
+
+	public ExternalApiThrottle(@Value("${batch.external-api.rate-limit.permits-per-second:0}") double ratePerSecond,
+							   @Value("${batch.external-api.rate-limit.burst:10}") int burst,
+							   @Value("${batch.external-api.rate-limit.max-wait:10s}") Duration rateLimitMaxWait,
+							   @Value("${batch.external-api.concurrency.adaptive:false}") boolean adaptive,
+							   @Value("${batch.external-api.concurrency.initial-limit:8}") int initialLimit,
+							   @Value("${batch.external-api.concurrency.min-limit:1}") int minLimit,
+							   @Value("${batch.external-api.concurrency.max-limit:64}") int maxLimit,
+							   @Value("${batch.external-api.concurrency.backoff-ratio:0.9}") double backoffRatio,
+							   @Value("${batch.external-api.concurrency.latency-threshold:500ms}") Duration latencyThreshold,
+							   @Value("${batch.external-api.concurrency.max-wait:1s}") Duration concurrencyMaxWait) {
+		this.defaultRatePerSecond = ratePerSecond;
+		this.defaultBurst = burst;
+		this.defaultAdaptive = adaptive;
+		this.defaultMaxConcurrency = maxLimit;
+		this.rateLimitMaxWait = rateLimitMaxWait;
+		this.concurrencyMaxWait = concurrencyMaxWait;
+		this.rateLimiter = new TokenBucketRateLimiter(ratePerSecond, burst);
+		this.concurrencyLimiter = new AimdConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio, latencyThreshold);
+		this.adaptive = adaptive;
+		log.info("External API throttle rateLimit={}/s (burst={}), adaptiveConcurrency={} (initial={}, min={}, max={}, latencyThreshold={})",
+				ratePerSecond, burst, adaptive, initialLimit, minLimit, maxLimit, latencyThreshold);
+	}
+
+	/**
+	 * 호출 전에 토큰과 동시 호출 자리를 얻는다. 대기 한도를 넘기면 {@link CallNotPermittedException}.
+	 *
+	 * @return 동시 호출 자리를 잡았으면 true. 이 경우 호출 후 {@link #onComplete} 또는 {@link #release}를 호출해야 한다
+	 */
+	public boolean acquire() {
+		try {
+			long waited = rateLimiter.acquire(rateLimitMaxWait);
+			if (waited < 0) {
+				rateRejected.incrementAndGet();
+				throw new CallNotPermittedException("Rate limit exceeded (" + rateLimiter.getPermitsPerSecond() + "/s)");
+			}
+			ratePermitted.incrementAndGet();
+			if (waited > 0) {
+				rateWaitCount.incrementAndGet();
+				rateWaitNanos.addAndGet(waited);
+			}
+
+			if (!adaptive) {
+				return false;
+			}
+			long start = System.nanoTime();
+			if (!concurrencyLimiter.tryAcquire(concurrencyMaxWait)) {
+				concurrencyRejected.incrementAndGet();
+				throw new CallNotPermittedException("Concurrency limit reached (" + concurrencyLimiter.getLimit() + ")");
+			}
+			concurrencyPermitted.incrementAndGet();
+			concurrencyWaitNanos.addAndGet(System.nanoTime() - start);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ExternalApiException("Interrupted while waiting for external API throttle", e);
+		}
+	}
+
+	/**
+	 * 토큰 / 동시 호출 자리를 얻고 call을 실행한 뒤 결과를 동시 호출 한도에 기록한다.
+	 * 재시도 / timeout을 씌우지 않는 경로(resilience 비활성, micro-batch bulk 요청)가 쓴다. call 한 번 = 토큰 1개.
+	 */
+	public <T> T call(Supplier<T> call) {
+		boolean concurrencyPermit = acquire();
+		long start = System.nanoTime();
+		boolean success = false;
+		try {
+			T result = call.get();
+			success = true;
+			return result;
+		} finally {
+			if (concurrencyPermit) {
+				onComplete(System.nanoTime() - start, success);
+			}
+		}
+	}
+
+	public void onComplete(long latencyNanos, boolean success) {
+		if (success) {
+			concurrencyLimiter.onSuccess(latencyNanos);
+		} else {
+			concurrencyLimiter.onDropped();
+		}
+	}
+
+	public void release() {
+		concurrencyLimiter.release();
+	}
+
+	/**
+	 * Job 단위 설정. null인 값은 properties 기본값을 쓴다.
+	 */
+	public void configure(Double ratePerSecond, Integer burst, Boolean adaptive, Integer maxConcurrency) {
+		double rate = ratePerSecond != null ? ratePerSecond : defaultRatePerSecond;
+		int bucketSize = burst != null ? burst : defaultBurst;
+		int maxLimit = maxConcurrency != null ? maxConcurrency : defaultMaxConcurrency;
+		rateLimiter.setRate(rate, bucketSize);
+		concurrencyLimiter.setMaxLimit(maxLimit);
+		this.adaptive = adaptive != null ? adaptive : defaultAdaptive;
+		log.info("External API throttle configured: rateLimit={}/s (burst={}), adaptiveConcurrency={} (max={})",
+				rate, bucketSize, this.adaptive, maxLimit);
+	}
+
+	public void reset() {
+		configure(null, null, null, null);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("batch.external.api.rate_limiter.permits", ratePermitted, AtomicLong::get).tag("result", "permitted").register(registry);
+		FunctionCounter.builder("batch.external.api.rate_limiter.permits", rateRejected, AtomicLong::get).tag("result", "rejected").register(registry);
+		FunctionTimer.builder("batch.external.api.rate_limiter.wait", this,
+						throttle -> throttle.rateWaitCount.get(), throttle -> throttle.rateWaitNanos.get(), TimeUnit.NANOSECONDS)
+				.register(registry);
+		Gauge.builder("batch.external.api.rate_limiter.available", rateLimiter, TokenBucketRateLimiter::getAvailableTokens).register(registry);
+		Gauge.builder("batch.external.api.rate_limiter.rate", rateLimiter, TokenBucketRateLimiter::getPermitsPerSecond).register(registry);
+
+		FunctionCounter.builder("batch.external.api.concurrency.permits", concurrencyPermitted, AtomicLong::get).tag("result", "permitted").register(registry);
+		FunctionCounter.builder("batch.external.api.concurrency.permits", concurrencyRejected, AtomicLong::get).tag("result", "rejected").register(registry);
+		FunctionTimer.builder("batch.external.api.concurrency.wait", this,
+						throttle -> throttle.concurrencyPermitted.get(), throttle -> throttle.concurrencyWaitNanos.get(), TimeUnit.NANOSECONDS)
+				.register(registry);
+		Gauge.builder("batch.external.api.concurrency.limit", concurrencyLimiter, AimdConcurrencyLimiter::getLimit).register(registry);
+		Gauge.builder("batch.external.api.concurrency.in_flight", concurrencyLimiter, AimdConcurrencyLimiter::getInFlight).register(registry);
+	}
+}
@@ -0,0 +1,43 @@
+package com.dev.batchpractice.domain.service;
+
+import com.dev.batchpractice.domain.entity.BatchHighWaterMark;
+import com.dev.batchpractice.domain.repository.BatchHighWaterMarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HighWaterMarkService {
+
+	private final BatchHighWaterMarkRepository highWaterMarkRepository;
+
+	@Transactional(readOnly = true)
+	public Optional<LocalDateTime> find(String name) {
+		return highWaterMarkRepository.findById(name).map(BatchHighWaterMark::getWatermark);
+	}
+
+	/**
+	 * high-water mark를 앞으로만 옮긴다. 저장된 값보다 이전 시각이면 무시한다.
+	 */
+	@Transactional
+	public void advance(String name, LocalDateTime watermark) {
+		Optional<BatchHighWaterMark> current = highWaterMarkRepository.findById(name);
+		if (current.isEmpty()) {
+			highWaterMarkRepository.save(new BatchHighWaterMark(name, watermark, LocalDateTime.now()));
+			log.info("[HighWaterMark] {} initialized to {}", name, watermark);
+			return;
+		}
+
+		BatchHighWaterMark highWaterMark = current.get();
+		if (watermark.isAfter(highWaterMark.getWatermark())) {
+			log.info("[HighWaterMark] {} advanced {} -> {}", name, highWaterMark.getWatermark(), watermark);
+			highWaterMark.advanceTo(watermark);
+		}
+	}
+}
@@ -0,0 +1,242 @@
+package com.dev.batchpractice.domain.service;
+
+import com.dev.batchpractice.domain.service.resilience.CallNotPermittedException;
+import com.dev.batchpractice.domain.service.resilience.CircuitBreaker;
+import com.dev.batchpractice.domain.service.resilience.ExternalApiException;
+import com.dev.batchpractice.domain.service.resilience.ExternalApiTimeoutException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ExternalApiService 앞에 장애 격리 장치를 씌운 클라이언트.
+ * <p>
+ * 호출 한 번(attempt)의 순서: 서킷 브레이커 확인 → {@link ExternalApiThrottle}(rate limit, 적응형 동시 호출 한도)
+ * → bulkhead permit 획득 → 가상 스레드에서 호출 + timeout 대기.
+ * <ul>
+ *     <li>timeout: {@code timeout}을 넘기면 호출을 취소(interrupt)하고 {@link ExternalApiTimeoutException}</li>
+ *     <li>retry: {@link ExternalApiException}이면 최대 max-attempts회, full jitter 지수 backoff
+ *         (0 ~ min(max, initial × 2^(n-1)) 사이 임의 시간) 후 재시도</li>
+ *     <li>circuit breaker: 최근 호출 실패율이 임계치를 넘으면 open-duration 동안 호출하지 않고 바로 {@link CallNotPermittedException}</li>
+ *     <li>bulkhead: 동시 호출 수를 max-concurrent로 제한, max-wait 안에 permit을 못 얻으면 {@link CallNotPermittedException}</li>
+ * </ul>
+ * CallNotPermittedException은 재시도하지 않으므로, 한 아이템의 최대 실패 지연은
+ * 대략 {@code max-attempts × (max-wait + timeout) + backoff 합}으로 제한된다.
+ * {@code resilience.enabled=false}면 ExternalApiThrottle만 거쳐 바로 호출한다.
+ */
+@Slf4j
+@Primary
+@Service
+public class ResilientExternalApiService implements ExternalApiClient, MeterBinder, DisposableBean {
+
+	private final ExternalApiService delegate;
+	private final ExternalApiThrottle throttle;
+	private final boolean enabled;
+	private final Duration timeout;
+	private final int maxAttempts;
+	private final Duration initialBackoff;
+	private final Duration maxBackoff;
+	private final Semaphore bulkhead;
+	private final int bulkheadMaxConcurrent;
+	private final Duration bulkheadMaxWait;
+	private final CircuitBreaker circuitBreaker;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final AtomicLong successCount = new AtomicLong();
+	private final AtomicLong failureCount = new AtomicLong();
+	private final AtomicLong timeoutCount = new AtomicLong();
+	private final AtomicLong rejectedCount = new AtomicLong();
+	private final AtomicLong retryCount = new AtomicLong();
+
+	public ResilientExternalApiService(ExternalApiService delegate,
+									   ExternalApiThrottle throttle,
+									   @Value("${batch.external-api.resilience.enabled:true}") boolean enabled,
+									   @Value("${batch.external-api.resilience.timeout:1s}") Duration timeout,
+									   @Value("${batch.external-api.resilience.max-attempts:3}") int maxAttempts,
+									   @Value("${batch.external-api.resilience.backoff.initial:100ms}") Duration initialBackoff,
+									   @Value("${batch.external-api.resilience.backoff.max:2s}") Duration maxBackoff,
+									   @Value("${batch.external-api.resilience.bulkhead.max-concurrent:64}") int bulkheadMaxConcurrent,
+									   @Value("${batch.external-api.resilience.bulkhead.max-wait:500ms}") Duration bulkheadMaxWait,
+									   @Value("${batch.external-api.resilience.circuit-breaker.window-size:20}") int windowSize,
+									   @Value("${batch.external-api.resilience.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+									   @Value("${batch.external-api.resilience.circuit-breaker.open-duration:30s}") Duration openDuration,
+									   @Value("${batch.external-api.resilience.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+		this.delegate = delegate;
+		this.throttle = throttle;
+		this.enabled = enabled;
+		this.timeout = timeout;
+		this.maxAttempts = maxAttempts;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.bulkhead = new Semaphore(bulkheadMaxConcurrent);
+		this.bulkheadMaxConcurrent = bulkheadMaxConcurrent;
+		this.bulkheadMaxWait = bulkheadMaxWait;
+		this.circuitBreaker = new CircuitBreaker("externalApi", windowSize, failureRateThreshold, openDuration, halfOpenCalls);
+		log.info("External API resilience enabled={}, timeout={}, maxAttempts={}, backoff={}~{}, bulkhead={}, circuitBreaker(window={}, threshold={}, open={})",
+				enabled, timeout, maxAttempts, initialBackoff, maxBackoff, bulkheadMaxConcurrent, windowSize, failureRateThreshold, openDuration);
+	}
+
+	@Override
+	public String callExternalApi(String inputData) {
+		if (!enabled) {
+			// resilience를 꺼도 파트너 API 쿼터는 지켜야 하므로 호출량 제어는 그대로 거친다
+			return throttle.call(() -> delegate.callExternalApi(inputData));
+		}
+
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return attempt(inputData);
+			} catch (CallNotPermittedException e) {
+				throw e;
+			} catch (ExternalApiException e) {
+				if (attempt >= maxAttempts) {
+					throw e;
+				}
+				retryCount.incrementAndGet();
+				Duration backoff = backoff(attempt);
+				log.warn("External API attempt {}/{} failed ({}), retrying in {}ms", attempt, maxAttempts, e.getMessage(), backoff.toMillis());
+				sleep(backoff);
+			}
+		}
+	}
+
+	private String attempt(String inputData) {
+		if (!circuitBreaker.tryAcquirePermission()) {
+			rejectedCount.incrementAndGet();
+			throw new CallNotPermittedException("Circuit breaker is " + circuitBreaker.getState());
+		}
+
+		boolean concurrencyPermit;
+		try {
+			concurrencyPermit = throttle.acquire();
+		} catch (ExternalApiException e) {
+			circuitBreaker.releasePermission();
+			rejectedCount.incrementAndGet();
+			throw e;
+		}
+
+		Future<String> future;
+		try {
+			if (!bulkhead.tryAcquire(bulkheadMaxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+				// 호출하지 않았으므로 서킷 브레이커 / 동시 호출 한도에는 결과를 기록하지 않는다
+				circuitBreaker.releasePermission();
+				releaseThrottle(concurrencyPermit);
+				rejectedCount.incrementAndGet();
+				throw new CallNotPermittedException("Bulkhead full (" + bulkheadMaxConcurrent + " concurrent calls)");
+			}
+			future = submit(inputData, concurrencyPermit);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			circuitBreaker.releasePermission();
+			releaseThrottle(concurrencyPermit);
+			throw new ExternalApiException("Interrupted while waiting for bulkhead", e);
+		}
+
+		try {
+			String response = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+			circuitBreaker.onSuccess();
+			successCount.incrementAndGet();
+			return response;
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			circuitBreaker.onFailure();
+			timeoutCount.incrementAndGet();
+			throw new ExternalApiTimeoutException("External API call timed out after " + timeout.toMillis() + "ms");
+		} catch (ExecutionException e) {
+			circuitBreaker.onFailure();
+			failureCount.incrementAndGet();
+			throw e.getCause() instanceof ExternalApiException cause
+					? cause
+					: new ExternalApiException("External API call failed: " + e.getCause().getMessage(), e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			circuitBreaker.releasePermission();
+			throw new ExternalApiException("Interrupted while waiting for external API response", e);
+		}
+	}
+
+	private Future<String> submit(String inputData, boolean concurrencyPermit) {
+		try {
+			return executor.submit(() -> {
+				long start = System.nanoTime();
+				boolean success = false;
+				try {
+					String response = delegate.callExternalApi(inputData);
+					success = true;
+					return response;
+				} finally {
+					// timeout으로 포기한 호출도 실제로 끝날 때까지 permit을 잡고 있어야 동시 호출 수가 정확하다
+					bulkhead.release();
+					if (concurrencyPermit) {
+						throttle.onComplete(System.nanoTime() - start, success);
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			bulkhead.release();
+			releaseThrottle(concurrencyPermit);
+			throw e;
+		}
+	}
+
+	private void releaseThrottle(boolean concurrencyPermit) {
+		if (concurrencyPermit) {
+			throttle.release();
+		}
+	}
+
+	private Duration backoff(int attempt) {
+		long ceiling = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+		return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+	}
+
+	private static void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ExternalApiException("Interrupted during retry backoff", e);
+		}
+	}
+
+	public CircuitBreaker.State getCircuitState() {
+		return circuitBreaker.getState();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("batch.external.api.calls", successCount, AtomicLong::get).tag("result", "success").register(registry);
+		FunctionCounter.builder("batch.external.api.calls", failureCount, AtomicLong::get).tag("result", "failure").register(registry);
+		FunctionCounter.builder("batch.external.api.calls", timeoutCount, AtomicLong::get).tag("result", "timeout").register(registry);
+		FunctionCounter.builder("batch.external.api.calls", rejectedCount, AtomicLong::get).tag("result", "rejected").register(registry);
+		FunctionCounter.builder("batch.external.api.retries", retryCount, AtomicLong::get).register(registry);
+		Gauge.builder("batch.external.api.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+				.description("0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN")
+				.register(registry);
+		Gauge.builder("batch.external.api.bulkhead.available", bulkhead, Semaphore::availablePermits).register(registry);
+	}
+
+	@Override
+	public void destroy() {
+		executor.close();
+	}
+}
@@ -0,0 +1,134 @@
+package com.dev.batchpractice.domain.service.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관측한 응답 시간 / 실패로 동시 호출 한도를 조정하는 AIMD(Additive Increase, Multiplicative Decrease) 리미터.
+ * <ul>
+ *     <li>응답 시간이 latencyThreshold 이하로 성공: limit += 1 / limit (한도만큼 성공하면 약 +1)</li>
+ *     <li>응답 시간이 latencyThreshold 초과, 실패, timeout: limit *= backoffRatio</li>
+ *     <li>limit은 [minLimit, maxLimit] 안에서만 움직인다</li>
+ * </ul>
+ * 한도를 다 쓰고 있지 않을 때(in-flight가 limit의 절반 미만)는 늘리지 않는다. 부하가 없는 동안 한도가 무한정 커지는 것을 막기 위함이다.
+ * 대기는 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록 synchronized 대신 ReentrantLock으로 구현했다.
+ */
+public class AimdConcurrencyLimiter {
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition permitReleased = lock.newCondition();
+
+	private final int minLimit;
+	private final double backoffRatio;
+	private final long latencyThresholdNanos;
+
+	private int maxLimit;
+	private double limit;
+	private int inFlight;
+
+	public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, Duration latencyThreshold) {
+		this.minLimit = Math.max(1, minLimit);
+		this.maxLimit = Math.max(this.minLimit, maxLimit);
+		this.backoffRatio = backoffRatio;
+		this.latencyThresholdNanos = latencyThreshold.toNanos();
+		this.limit = clamp(initialLimit);
+	}
+
+	/**
+	 * 현재 한도 안에서 자리가 날 때까지 최대 maxWait 동안 기다린다.
+	 * true를 받은 호출은 반드시 onSuccess / onDropped / release 중 하나를 호출해야 한다.
+	 */
+	public boolean tryAcquire(Duration maxWait) throws InterruptedException {
+		long remainingNanos = maxWait.toNanos();
+		lock.lock();
+		try {
+			while (inFlight >= (int) limit) {
+				if (remainingNanos <= 0) {
+					return false;
+				}
+				remainingNanos = permitReleased.awaitNanos(remainingNanos);
+			}
+			inFlight++;
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void onSuccess(long latencyNanos) {
+		lock.lock();
+		try {
+			inFlight--;
+			if (latencyNanos > latencyThresholdNanos) {
+				decrease();
+			} else if (inFlight * 2 >= (int) limit) {
+				limit = clamp(limit + 1 / limit);
+			}
+			permitReleased.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void onDropped() {
+		lock.lock();
+		try {
+			inFlight--;
+			decrease();
+			permitReleased.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 자리를 얻었지만 호출하지 않은 경우 결과 반영 없이 반납한다.
+	 */
+	public void release() {
+		lock.lock();
+		try {
+			inFlight--;
+			permitReleased.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void setMaxLimit(int maxLimit) {
+		lock.lock();
+		try {
+			this.maxLimit = Math.max(minLimit, maxLimit);
+			this.limit = clamp(limit);
+			permitReleased.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getLimit() {
+		lock.lock();
+		try {
+			return (int) limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getInFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void decrease() {
+		limit = clamp(limit * backoffRatio);
+	}
+
+	private double clamp(double value) {
+		return Math.max(minLimit, Math.min(maxLimit, value));
+	}
+}
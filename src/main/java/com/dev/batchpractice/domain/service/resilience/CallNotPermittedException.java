@@ -0,0 +1,11 @@
+package com.dev.batchpractice.domain.service.resilience;
+
+/**
+ * 서킷 브레이커가 열려 있거나 bulkhead가 가득 차서 호출하지 않고 바로 실패한 경우. 재시도하지 않는다.
+ */
+public class CallNotPermittedException extends ExternalApiException {
+
+	public CallNotPermittedException(String message) {
+		super(message);
+	}
+}
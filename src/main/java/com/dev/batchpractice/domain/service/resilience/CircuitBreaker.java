@@ -0,0 +1,123 @@
+package com.dev.batchpractice.domain.service.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * 최근 N회 호출 결과(count-based sliding window)로 동작하는 서킷 브레이커.
+ * <ul>
+ *     <li>CLOSED: 실패율이 threshold 이상이면(최소 windowSize회 기록 후) OPEN</li>
+ *     <li>OPEN: openDuration 동안 모든 호출 거부 → 이후 HALF_OPEN</li>
+ *     <li>HALF_OPEN: halfOpenCalls회만 시험 호출 허용, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN</li>
+ * </ul>
+ * 상태 변경이 드물고 임계 구역이 짧아서 synchronized로 단순하게 구현했다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+	public enum State { CLOSED, OPEN, HALF_OPEN }
+
+	private final String name;
+	private final boolean[] window;
+	private final double failureRateThreshold;
+	private final long openDurationNanos;
+	private final int halfOpenCalls;
+
+	private State state = State.CLOSED;
+	private int recorded;
+	private int next;
+	private int failures;
+	private long openedAt;
+	private int halfOpenPermitted;
+	private int halfOpenSucceeded;
+
+	public CircuitBreaker(String name, int windowSize, double failureRateThreshold, Duration openDuration, int halfOpenCalls) {
+		this.name = name;
+		this.window = new boolean[windowSize];
+		this.failureRateThreshold = failureRateThreshold;
+		this.openDurationNanos = openDuration.toNanos();
+		this.halfOpenCalls = halfOpenCalls;
+	}
+
+	/**
+	 * 호출해도 되는지 확인한다. true를 받은 호출은 반드시 onSuccess / onFailure / releasePermission 중 하나를 호출해야 한다.
+	 */
+	public synchronized boolean tryAcquirePermission() {
+		if (state == State.OPEN) {
+			if (System.nanoTime() - openedAt < openDurationNanos) {
+				return false;
+			}
+			transitionTo(State.HALF_OPEN);
+		}
+		if (state == State.HALF_OPEN) {
+			if (halfOpenPermitted >= halfOpenCalls) {
+				return false;
+			}
+			halfOpenPermitted++;
+		}
+		return true;
+	}
+
+	/**
+	 * 허가를 받았지만 실제로 호출하지 않은 경우(bulkhead 거부, interrupt) 결과 기록 없이 허가를 반납한다.
+	 */
+	public synchronized void releasePermission() {
+		if (state == State.HALF_OPEN && halfOpenPermitted > 0) {
+			halfOpenPermitted--;
+		}
+	}
+
+	public synchronized void onSuccess() {
+		if (state == State.HALF_OPEN) {
+			if (++halfOpenSucceeded >= halfOpenCalls) {
+				transitionTo(State.CLOSED);
+			}
+			return;
+		}
+		record(false);
+	}
+
+	public synchronized void onFailure() {
+		if (state == State.HALF_OPEN) {
+			transitionTo(State.OPEN);
+			return;
+		}
+		record(true);
+		if (state == State.CLOSED && recorded == window.length && (double) failures / recorded >= failureRateThreshold) {
+			transitionTo(State.OPEN);
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	private void record(boolean failed) {
+		if (recorded == window.length) {
+			if (window[next]) {
+				failures--;
+			}
+		} else {
+			recorded++;
+		}
+		window[next] = failed;
+		if (failed) {
+			failures++;
+		}
+		next = (next + 1) % window.length;
+	}
+
+	private void transitionTo(State newState) {
+		log.warn("[CircuitBreaker] {} {} -> {}", name, state, newState);
+		state = newState;
+		recorded = 0;
+		next = 0;
+		failures = 0;
+		halfOpenPermitted = 0;
+		halfOpenSucceeded = 0;
+		if (newState == State.OPEN) {
+			openedAt = System.nanoTime();
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.dev.batchpractice.domain.service.resilience;
+
+/**
+ * 외부 API 호출 실패. dataProcessingStep은 이 예외(하위 타입 포함)를 skip 대상으로 본다.
+ */
+public class ExternalApiException extends RuntimeException {
+
+	public ExternalApiException(String message) {
+		super(message);
+	}
+
+	public ExternalApiException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
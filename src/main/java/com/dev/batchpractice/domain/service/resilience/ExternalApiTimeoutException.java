@@ -0,0 +1,8 @@
+package com.dev.batchpractice.domain.service.resilience;
+
+public class ExternalApiTimeoutException extends ExternalApiException {
+
+	public ExternalApiTimeoutException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,78 @@
+package com.dev.batchpractice.domain.service.resilience;
+
+import java.time.Duration;
+
+/**
+ * 초당 permitsPerSecond개의 토큰이 채워지고 최대 burst개까지 쌓이는 토큰 버킷.
+ * <p>
+ * 토큰이 없으면 잔량을 음수로 빌려(reserve) 다음 토큰이 채워질 시각까지 호출 스레드가 잠든다.
+ * 먼저 예약한 스레드가 먼저 깨어나므로 대기 순서가 보장되고, 잠자는 동안에는 락을 잡지 않는다.
+ * 하나의 인스턴스를 모든 스레드 / 파티션이 공유해야 전체 호출량이 한도 안에 머문다.
+ * permitsPerSecond가 0 이하이면 제한하지 않는다.
+ */
+public class TokenBucketRateLimiter {
+
+	private double permitsPerSecond;
+	private double burst;
+	private double tokens;
+	private long lastRefillNanos;
+
+	public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+		this.lastRefillNanos = System.nanoTime();
+		setRate(permitsPerSecond, burst);
+		this.tokens = this.burst;
+	}
+
+	/**
+	 * 토큰 하나를 얻을 때까지 최대 maxWait 동안 기다린다.
+	 *
+	 * @return 실제로 기다린 시간(ns), maxWait 안에 얻을 수 없으면 -1 (이 경우 토큰을 소비하지 않는다)
+	 */
+	public long acquire(Duration maxWait) throws InterruptedException {
+		long waitNanos = reserve(maxWait.toNanos());
+		if (waitNanos > 0) {
+			Thread.sleep(Duration.ofNanos(waitNanos));
+		}
+		return waitNanos;
+	}
+
+	public synchronized void setRate(double permitsPerSecond, int burst) {
+		refill(System.nanoTime());
+		this.permitsPerSecond = permitsPerSecond;
+		this.burst = Math.max(1, burst);
+		this.tokens = Math.min(tokens, this.burst);
+	}
+
+	public synchronized double getPermitsPerSecond() {
+		return permitsPerSecond;
+	}
+
+	public synchronized double getAvailableTokens() {
+		refill(System.nanoTime());
+		return tokens;
+	}
+
+	private synchronized long reserve(long maxWaitNanos) {
+		if (permitsPerSecond <= 0) {
+			return 0;
+		}
+		refill(System.nanoTime());
+		if (tokens >= 1) {
+			tokens -= 1;
+			return 0;
+		}
+		long waitNanos = (long) Math.ceil((1 - tokens) / permitsPerSecond * 1_000_000_000L);
+		if (waitNanos > maxWaitNanos) {
+			return -1;
+		}
+		tokens -= 1;
+		return waitNanos;
+	}
+
+	private void refill(long nowNanos) {
+		if (permitsPerSecond > 0) {
+			tokens = Math.min(burst, tokens + (nowNanos - lastRefillNanos) * permitsPerSecond / 1_000_000_000L);
+		}
+		lastRefillNanos = nowNanos;
+	}
+}
@@ -0,0 +1,212 @@
+package com.dev.batchpractice.job.bulkseed;
+
+import com.dev.batchpractice.job.bulkseed.BatchInputSeedRowGenerator.SeedRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * batch_input에 대량의 테스트 데이터를 넣는 컴포넌트.
+ * <p>
+ * BatchInput은 IDENTITY id라서 {@code saveAll}로는 Hibernate batching이 꺼지고 한 건씩 insert된다.
+ * 여기서는 JPA를 거치지 않고 DataSource 커넥션으로 직접 넣는다.
+ * <ul>
+ *     <li>{@link BulkSeedMethod#JDBC_BATCH}: {@value #ROWS_PER_STATEMENT}행짜리 multi-row INSERT를 addBatch, batchSize 행마다 커밋</li>
+ *     <li>{@link BulkSeedMethod#BULK_LOAD}: 스레드별 CSV 임시 파일을 만든 뒤 H2 {@code CSVREAD} / PostgreSQL {@code COPY}로 적재</li>
+ * </ul>
+ * 전체 범위를 writerThreads개의 연속 구간으로 나누고, 구간마다 가상 스레드 + 커넥션 1개로 병렬 처리한다.
+ * Step 트랜잭션과 별개로 커밋되므로 실패 시 이미 커밋된 행은 남는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchInputBulkSeeder {
+
+	private static final int ROWS_PER_STATEMENT = 100;
+	private static final String COLUMNS = "input_name, data, input_status, processed, created_at, updated_at";
+	private static final String COPY_SQL = "COPY batch_input (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv, HEADER true)";
+
+	private final DataSource dataSource;
+
+	/**
+	 * @return 생성한 행 수
+	 */
+	public long seed(BulkSeedRequest request) {
+		if (request.rowCount() == 0) {
+			return 0;
+		}
+		BatchInputSeedRowGenerator generator = new BatchInputSeedRowGenerator(request.skew(), request.duplicateRatio());
+		int threads = (int) Math.min(request.writerThreads(), request.rowCount());
+		long rangeSize = (request.rowCount() + threads - 1) / threads;
+		long startNanos = System.nanoTime();
+
+		long inserted = 0;
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<Long>> futures = new ArrayList<>(threads);
+			for (int t = 0; t < threads; t++) {
+				long from = 1 + t * rangeSize;
+				long to = Math.min(from + rangeSize - 1, request.rowCount());
+				futures.add(executor.submit(() -> seedRange(request, generator, from, to)));
+			}
+			for (Future<Long> future : futures) {
+				inserted += future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Bulk seeding interrupted", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Bulk seeding failed: " + e.getCause().getMessage(), e.getCause());
+		}
+
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+		log.info("[BulkSeed] inserted {} rows into batch_input in {}ms ({} rows/s, method={}, threads={})",
+				inserted, elapsed.toMillis(), inserted * 1000 / Math.max(elapsed.toMillis(), 1), request.method(), threads);
+		return inserted;
+	}
+
+	private long seedRange(BulkSeedRequest request, BatchInputSeedRowGenerator generator, long from, long to) throws Exception {
+		SplittableRandom random = new SplittableRandom(from);
+		try (Connection connection = dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			long inserted = switch (request.method()) {
+				case JDBC_BATCH -> insertWithJdbcBatch(connection, generator, random, from, to, request.batchSize());
+				case BULK_LOAD -> bulkLoad(connection, generator, random, from, to);
+			};
+			log.debug("[BulkSeed] range {}..{} done ({} rows)", from, to, inserted);
+			return inserted;
+		}
+	}
+
+	private long insertWithJdbcBatch(Connection connection, BatchInputSeedRowGenerator generator, SplittableRandom random,
+									 long from, long to, int batchSize) throws SQLException {
+		int rowsPerStatement = Math.min(ROWS_PER_STATEMENT, batchSize);
+		long index = from;
+		try (PreparedStatement statement = connection.prepareStatement(multiRowInsertSql(rowsPerStatement))) {
+			int pending = 0;
+			for (; index + rowsPerStatement - 1 <= to; index += rowsPerStatement) {
+				bindRows(statement, generator, random, index, rowsPerStatement);
+				statement.addBatch();
+				pending += rowsPerStatement;
+				if (pending >= batchSize) {
+					statement.executeBatch();
+					connection.commit();
+					pending = 0;
+				}
+			}
+			if (pending > 0) {
+				statement.executeBatch();
+			}
+		}
+
+		int remaining = (int) (to - index + 1);
+		if (remaining > 0) {
+			try (PreparedStatement statement = connection.prepareStatement(multiRowInsertSql(remaining))) {
+				bindRows(statement, generator, random, index, remaining);
+				statement.executeUpdate();
+			}
+		}
+		connection.commit();
+		return to - from + 1;
+	}
+
+	private long bulkLoad(Connection connection, BatchInputSeedRowGenerator generator, SplittableRandom random,
+						  long from, long to) throws SQLException, IOException {
+		String product = connection.getMetaData().getDatabaseProductName();
+		Path csv = Files.createTempFile("batch_input_seed-", ".csv");
+		try {
+			writeCsv(csv, generator, random, from, to);
+			long loaded = switch (product) {
+				case "H2" -> loadWithCsvRead(connection, csv);
+				case "PostgreSQL" -> loadWithCopy(connection, csv);
+				default -> throw new IllegalStateException("BULK_LOAD is not supported for " + product + ", use JDBC_BATCH");
+			};
+			connection.commit();
+			if ("PostgreSQL".equals(product)) {
+				try (Statement statement = connection.createStatement()) {
+					statement.execute("ANALYZE batch_input");
+				}
+				connection.commit();
+			}
+			return loaded;
+		} finally {
+			Files.deleteIfExists(csv);
+		}
+	}
+
+	private long loadWithCsvRead(Connection connection, Path csv) throws SQLException {
+		String file = csv.toAbsolutePath().toString().replace("'", "''");
+		try (Statement statement = connection.createStatement()) {
+			return statement.executeLargeUpdate("INSERT INTO batch_input (" + COLUMNS + ") SELECT " + COLUMNS
+					+ " FROM CSVREAD('" + file + "', NULL, 'charset=UTF-8')");
+		}
+	}
+
+	private long loadWithCopy(Connection connection, Path csv) throws SQLException, IOException {
+		try (Reader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+			return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, reader);
+		}
+	}
+
+	private static void writeCsv(Path csv, BatchInputSeedRowGenerator generator, SplittableRandom random,
+								 long from, long to) throws IOException {
+		String createdAt = Timestamp.valueOf(generator.createdAt()).toString();
+		try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+			writer.write(COLUMNS.replace(" ", ""));
+			writer.newLine();
+			for (long index = from; index <= to; index++) {
+				SeedRow row = generator.row(index, random);
+				writer.write(quote(row.inputName()) + "," + quote(row.data()) + "," + row.inputStatus() + ",false,"
+						+ createdAt + "," + createdAt);
+				writer.newLine();
+			}
+		}
+	}
+
+	private static void bindRows(PreparedStatement statement, BatchInputSeedRowGenerator generator, SplittableRandom random,
+								 long firstIndex, int rows) throws SQLException {
+		Timestamp createdAt = Timestamp.valueOf(generator.createdAt());
+		int parameter = 1;
+		for (int r = 0; r < rows; r++) {
+			SeedRow row = generator.row(firstIndex + r, random);
+			statement.setString(parameter++, row.inputName());
+			statement.setString(parameter++, row.data());
+			statement.setInt(parameter++, row.inputStatus());
+			statement.setBoolean(parameter++, false);
+			statement.setTimestamp(parameter++, createdAt);
+			statement.setTimestamp(parameter++, createdAt);
+		}
+	}
+
+	private static String multiRowInsertSql(int rows) {
+		return "INSERT INTO batch_input (" + COLUMNS + ") VALUES "
+				+ IntStream.range(0, rows).mapToObj(i -> "(?, ?, ?, ?, ?, ?)").collect(Collectors.joining(", "));
+	}
+
+	private static String quote(String value) {
+		return "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+}
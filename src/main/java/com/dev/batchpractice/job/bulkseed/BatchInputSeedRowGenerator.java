@@ -0,0 +1,71 @@
+package com.dev.batchpractice.job.bulkseed;
+
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * 행 번호(1부터)로 batch_input 한 행의 값을 만든다.
+ * <p>
+ * 스레드마다 자기 범위의 SplittableRandom을 넘겨서 사용하므로 인스턴스 자체는 여러 스레드에서 공유해도 된다.
+ * <ul>
+ *     <li>skew = 0: inputStatus = 행 번호 % 10 (기존 DataInitializationTasklet과 동일)</li>
+ *     <li>skew > 0: inputStatus를 Zipf(skew) 분포로 뽑음 → status 0에 가장 많이 몰림</li>
+ *     <li>duplicateRatio 비율만큼 data를 {@value #DUPLICATE_POOL_SIZE}개짜리 공용 값 중 하나로 채움</li>
+ * </ul>
+ */
+public class BatchInputSeedRowGenerator {
+
+	static final int INPUT_STATUS_COUNT = 10;
+	static final int DUPLICATE_POOL_SIZE = 1000;
+
+	private final double[] cumulativeStatusWeights;
+	private final double duplicateRatio;
+	private final long runToken = System.currentTimeMillis();
+	// 한 번 생성한 행은 모두 같은 created_at / updated_at을 갖는다
+	private final LocalDateTime createdAt = LocalDateTime.now();
+
+	public BatchInputSeedRowGenerator(double skew, double duplicateRatio) {
+		this.cumulativeStatusWeights = skew > 0 ? zipfCumulativeWeights(skew) : null;
+		this.duplicateRatio = duplicateRatio;
+	}
+
+	public SeedRow row(long index, SplittableRandom random) {
+		String data = duplicateRatio > 0 && random.nextDouble() < duplicateRatio
+				? "Data-dup-" + random.nextInt(DUPLICATE_POOL_SIZE)
+				: "Data-" + index + "-" + runToken;
+		return new SeedRow("TestData-" + index, data, inputStatus(index, random));
+	}
+
+	public LocalDateTime createdAt() {
+		return createdAt;
+	}
+
+	private int inputStatus(long index, SplittableRandom random) {
+		if (cumulativeStatusWeights == null) {
+			return (int) (index % INPUT_STATUS_COUNT);
+		}
+		double r = random.nextDouble();
+		for (int status = 0; status < cumulativeStatusWeights.length; status++) {
+			if (r < cumulativeStatusWeights[status]) {
+				return status;
+			}
+		}
+		return INPUT_STATUS_COUNT - 1;
+	}
+
+	private static double[] zipfCumulativeWeights(double skew) {
+		double[] weights = new double[INPUT_STATUS_COUNT];
+		double sum = 0;
+		for (int k = 0; k < INPUT_STATUS_COUNT; k++) {
+			sum += 1.0 / Math.pow(k + 1, skew);
+			weights[k] = sum;
+		}
+		for (int k = 0; k < INPUT_STATUS_COUNT; k++) {
+			weights[k] /= sum;
+		}
+		return weights;
+	}
+
+	public record SeedRow(String inputName, String data, int inputStatus) {
+	}
+}
@@ -0,0 +1,38 @@
+package com.dev.batchpractice.job.bulkseed;
+
+import com.dev.batchpractice.common.listener.BatchPerformanceListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@RequiredArgsConstructor
+public class BulkSeedJobConfig {
+
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final BulkSeedTasklet bulkSeedTasklet;
+	private final BatchPerformanceListener batchPerformanceListener;
+
+	@Bean
+	public Job bulkSeedJob() {
+		return new JobBuilder("bulkSeedJob", jobRepository)
+				.start(bulkSeedStep())
+				.listener(batchPerformanceListener)
+				.build();
+	}
+
+	@Bean
+	public Step bulkSeedStep() {
+		return new StepBuilder("bulkSeedStep", jobRepository)
+				.tasklet(bulkSeedTasklet, transactionManager)
+				.listener(batchPerformanceListener)
+				.build();
+	}
+}
@@ -0,0 +1,8 @@
+package com.dev.batchpractice.job.bulkseed;
+
+public enum BulkSeedMethod {
+	/** multi-row INSERT (VALUES (...), (...), ...) + JDBC batch */
+	JDBC_BATCH,
+	/** CSV 파일 생성 후 DB 벌크 로드 (H2: CSVREAD, PostgreSQL: COPY) */
+	BULK_LOAD
+}
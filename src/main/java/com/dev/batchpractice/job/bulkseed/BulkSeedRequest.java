@@ -0,0 +1,30 @@
+package com.dev.batchpractice.job.bulkseed;
+
+/**
+ * batch_input 벌크 생성 조건.
+ *
+ * @param rowCount       생성할 행 수
+ * @param skew           inputStatus 분포의 쏠림 정도 (0 = 균등 순환, 값이 클수록 낮은 status에 몰림, Zipf 지수)
+ * @param duplicateRatio data 값이 다른 행과 중복되는 비율 (0.0 ~ 1.0, 외부 API 캐시 적중률 실험용)
+ * @param writerThreads  병렬로 insert하는 스레드 수 (스레드마다 커넥션 1개 사용)
+ * @param batchSize      커밋 단위 행 수
+ * @param method         insert 방식
+ */
+public record BulkSeedRequest(long rowCount, double skew, double duplicateRatio,
+							  int writerThreads, int batchSize, BulkSeedMethod method) {
+
+	public BulkSeedRequest {
+		if (rowCount < 0) {
+			throw new IllegalArgumentException("rowCount must not be negative: " + rowCount);
+		}
+		if (skew < 0) {
+			throw new IllegalArgumentException("skew must not be negative: " + skew);
+		}
+		if (duplicateRatio < 0 || duplicateRatio > 1) {
+			throw new IllegalArgumentException("duplicateRatio must be between 0.0 and 1.0: " + duplicateRatio);
+		}
+		if (writerThreads < 1 || batchSize < 1) {
+			throw new IllegalArgumentException("writerThreads and batchSize must be positive");
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.dev.batchpractice.job.bulkseed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@StepScope
+public class BulkSeedTasklet implements Tasklet {
+
+	private final BatchInputBulkSeeder bulkSeeder;
+	private final BulkSeedRequest request;
+
+	public BulkSeedTasklet(BatchInputBulkSeeder bulkSeeder,
+						   @Value("#{jobParameters['rowCount'] ?: ${batch.bulk-seed.row-count:1000000}}") long rowCount,
+						   @Value("#{jobParameters['skew'] ?: ${batch.bulk-seed.skew:0}}") double skew,
+						   @Value("#{jobParameters['duplicateRatio'] ?: ${batch.bulk-seed.duplicate-ratio:0}}") double duplicateRatio,
+						   @Value("#{jobParameters['writerThreads'] ?: ${batch.bulk-seed.writer-threads:4}}") int writerThreads,
+						   @Value("#{jobParameters['batchSize'] ?: ${batch.bulk-seed.batch-size:10000}}") int batchSize,
+						   @Value("#{jobParameters['method'] ?: '${batch.bulk-seed.method:JDBC_BATCH}'}") String method) {
+		this.bulkSeeder = bulkSeeder;
+		this.request = new BulkSeedRequest(rowCount, skew, duplicateRatio, writerThreads, batchSize,
+				BulkSeedMethod.valueOf(method.toUpperCase()));
+	}
+
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+		log.info("[BulkSeed] {}", request);
+		long inserted = bulkSeeder.seed(request);
+		contribution.incrementWriteCount(inserted);
+		return RepeatStatus.FINISHED;
+	}
+}
@@ -2,30 +2,59 @@ package com.dev.batchpractice.job.dataprocessing;
 
 import com.dev.batchpractice.domain.entity.BatchInput;
 import com.dev.batchpractice.domain.entity.BatchOutput;
+import com.dev.batchpractice.common.listener.BatchMetricsListener;
 import com.dev.batchpractice.common.listener.BatchPerformanceListener;
+import com.dev.batchpractice.common.support.BatchTaskExecutors;
+import com.dev.batchpractice.common.support.ThreadMode;
+import com.dev.batchpractice.domain.service.resilience.ExternalApiException;
+import com.dev.batchpractice.job.dataprocessing.chunk.AdaptiveChunkCompletionPolicy;
+import com.dev.batchpractice.job.dataprocessing.listener.DeadLetterSkipListener;
+import com.dev.batchpractice.job.dataprocessing.listener.ExternalApiThrottleListener;
+import com.dev.batchpractice.job.dataprocessing.pipeline.PipelinedDataProcessingTasklet;
 import com.dev.batchpractice.job.dataprocessing.processor.ApiCallItemProcessor;
+import com.dev.batchpractice.job.dataprocessing.processor.AsyncApiCallItemProcessor;
+import com.dev.batchpractice.job.dataprocessing.processor.BatchInputRowApiCallItemProcessor;
+import com.dev.batchpractice.job.dataprocessing.processor.MicroBatchingApiCallItemProcessor;
+import com.dev.batchpractice.job.dataprocessing.reader.BatchInputRow;
+import com.dev.batchpractice.job.dataprocessing.reader.KeysetPagingItemReader;
+import com.dev.batchpractice.job.dataprocessing.reader.PrefetchingItemStreamReader;
 import com.dev.batchpractice.job.dataprocessing.tasklet.DataInitializationTasklet;
 import com.dev.batchpractice.job.dataprocessing.tasklet.FailStepTasklet;
-import com.dev.batchpractice.job.dataprocessing.writer.BatchOutputWriter;
+import com.dev.batchpractice.job.dataprocessing.writer.AsyncBatchOutputWriter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.listener.ChunkListener;
+import org.springframework.batch.core.listener.ItemProcessListener;
+import org.springframework.batch.core.listener.ItemReadListener;
+import org.springframework.batch.core.listener.ItemWriteListener;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.batch.core.listener.SkipListener;
+import org.springframework.batch.core.listener.StepExecutionListener;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.item.ItemProcessor;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
 import org.springframework.batch.infrastructure.item.database.JdbcCursorItemReader;
-import org.springframework.batch.infrastructure.item.database.JpaPagingItemReader;
+import org.springframework.batch.infrastructure.item.support.CompositeItemWriter;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
+import java.util.concurrent.Future;
+
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class BatchJobConfig {
-	private static final int CHUNK_SIZE = 10;
 
 	private final JobRepository jobRepository;
 	private final PlatformTransactionManager transactionManager;
@@ -34,9 +63,15 @@ public class BatchJobConfig {
 	private final FailStepTasklet failStepTasklet;
 
 	private final ApiCallItemProcessor apiCallItemProcessor;
-	private final BatchOutputWriter batchOutputWriter;
+	private final BatchInputRowApiCallItemProcessor batchInputRowApiCallItemProcessor;
+	private final AsyncApiCallItemProcessor asyncApiCallItemProcessor;
+	private final MicroBatchingApiCallItemProcessor microBatchingApiCallItemProcessor;
+	private final CompositeItemWriter<BatchOutput> batchOutputCompositeWriter;
 
 	private final BatchPerformanceListener batchPerformanceListener;
+	private final BatchMetricsListener batchMetricsListener;
+	private final ExternalApiThrottleListener externalApiThrottleListener;
+	private final DeadLetterSkipListener deadLetterSkipListener;
 
 	@Bean
 	public Job dataProcessingJob(Step dataInitializationStep, Step dataProcessingStep, Step failStep) {
@@ -54,6 +89,8 @@ public class BatchJobConfig {
 						.end()
 				.end()
 				.listener(batchPerformanceListener)
+				.listener((JobExecutionListener) batchMetricsListener)
+				.listener(externalApiThrottleListener)
 				.build();
 	}
 
@@ -66,17 +103,174 @@ public class BatchJobConfig {
 	}
 
 	@Bean
-	public Step dataProcessingStep(@Qualifier("batchInputReader") JpaPagingItemReader<BatchInput> batchInputReader,
-								   @Qualifier("batchInputJdbcCursorItemReader") JdbcCursorItemReader<BatchInput> batchInputJdbcCursorItemReader) {
-		return new StepBuilder("dataProcessingStep", jobRepository)
-				.<BatchInput, BatchOutput>chunk(CHUNK_SIZE)
-				.reader(batchInputJdbcCursorItemReader)
+	public Step dataProcessingStep(@Qualifier("batchInputJdbcCursorItemReader") JdbcCursorItemReader<BatchInput> batchInputJdbcCursorItemReader,
+								   @Qualifier("batchInputKeysetJdbcReader") KeysetPagingItemReader<BatchInput> batchInputKeysetJdbcReader,
+								   @Qualifier("batchInputKeysetJpaReader") KeysetPagingItemReader<BatchInput> batchInputKeysetJpaReader,
+								   @Qualifier("batchInputPrefetchingReader") PrefetchingItemStreamReader<BatchInput> batchInputPrefetchingReader,
+								   @Qualifier("batchInputRowCursorReader") JdbcCursorItemReader<BatchInputRow> batchInputRowCursorReader,
+								   PipelinedDataProcessingTasklet pipelinedDataProcessingTasklet,
+								   @Value("${batch.processing.reader:JDBC_CURSOR}") ReaderType readerType,
+								   @Value("${batch.processing.row-model:ENTITY}") RowModel rowModel,
+								   @Value("${batch.processing.mode:SYNC}") ProcessingMode processingMode,
+								   @Value("${batch.processing.skip-limit:100}") int skipLimit,
+								   @Value("${batch.processing.step.threads:1}") int stepThreads,
+								   @Value("${batch.processing.step.thread-mode:VIRTUAL}") ThreadMode stepThreadMode,
+								   AdaptiveChunkCompletionPolicy dataProcessingChunkPolicy) {
+		log.info("dataProcessingStep reader: {}, row model: {}, processing mode: {}, threads: {} ({})",
+				readerType, rowModel, processingMode, stepThreads, stepThreadMode);
+
+		if (rowModel == RowModel.RECORD) {
+			if (processingMode != ProcessingMode.SYNC || stepThreads > 1) {
+				throw new IllegalStateException("batch.processing.row-model=RECORD supports only the SYNC single-threaded dataProcessingStep");
+			}
+			return leanDataProcessingStep(batchInputRowCursorReader, skipLimit, dataProcessingChunkPolicy);
+		}
+
+		if (processingMode == ProcessingMode.PIPELINED) {
+			// read / process / write 스테이지를 bounded 큐로 연결, execute() 한 번 = 청크 1개 커밋
+			if (stepThreads > 1 || readerType != ReaderType.JDBC_CURSOR) {
+				log.warn("PIPELINED mode uses its own processor threads and the JDBC cursor reader; step.threads={} and reader={} are ignored",
+						stepThreads, readerType);
+			}
+			return new StepBuilder("dataProcessingStep", jobRepository)
+					.tasklet(pipelinedDataProcessingTasklet, transactionManager)
+					.listener(batchPerformanceListener)
+					.listener((StepExecutionListener) batchMetricsListener)
+					.build();
+		}
+
+		ItemStreamReader<BatchInput> reader = switch (readerType) {
+			case JDBC_CURSOR -> batchInputJdbcCursorItemReader;
+			case KEYSET_JDBC -> batchInputKeysetJdbcReader;
+			case KEYSET_JPA -> batchInputKeysetJpaReader;
+		};
+
+		if (processingMode != ProcessingMode.SYNC) {
+			// 청크 내 아이템을 가상 스레드(ASYNC) 또는 bulk 요청(MICRO_BATCH)으로 동시에 처리하고, Writer에서 입력 순서대로 Future를 풀어 저장
+			ItemProcessor<BatchInput, Future<BatchOutput>> futureProcessor = processingMode == ProcessingMode.ASYNC
+					? asyncApiCallItemProcessor
+					: microBatchingApiCallItemProcessor;
+
+			SimpleStepBuilder<BatchInput, Future<BatchOutput>> futureBuilder = new StepBuilder("dataProcessingStep", jobRepository)
+					.<BatchInput, Future<BatchOutput>>chunk(dataProcessingChunkPolicy, transactionManager)
+					.reader(reader)
+					.processor(futureProcessor)
+					.writer(new AsyncBatchOutputWriter(batchOutputCompositeWriter))
+					.listener(batchPerformanceListener)
+					.listener((StepExecutionListener) batchMetricsListener)
+					.listener((ChunkListener) batchMetricsListener)
+					.listener((ItemReadListener<Object>) batchMetricsListener)
+					.listener((ItemProcessListener<Object, Object>) batchMetricsListener)
+					.listener((ItemWriteListener<Object>) batchMetricsListener)
+					.listener((ChunkListener) dataProcessingChunkPolicy);
+			if (processingMode == ProcessingMode.ASYNC) {
+				// 청크가 롤백되면 아직 진행 중인 외부 API 호출을 취소
+				futureBuilder.listener((ChunkListener) asyncApiCallItemProcessor);
+			}
+			return futureBuilder.build();
+		}
+
+		SimpleStepBuilder<BatchInput, BatchOutput> builder = new StepBuilder("dataProcessingStep", jobRepository)
+				.<BatchInput, BatchOutput>chunk(dataProcessingChunkPolicy, transactionManager)
 				.processor(apiCallItemProcessor)
-				.writer(batchOutputWriter)
+				.writer(batchOutputCompositeWriter)
 				.listener(batchPerformanceListener)
+				.listener((StepExecutionListener) batchMetricsListener)
+				.listener((ChunkListener) batchMetricsListener)
+				.listener((ItemReadListener<Object>) batchMetricsListener)
+				.listener((ItemProcessListener<Object, Object>) batchMetricsListener)
+				.listener((ItemWriteListener<Object>) batchMetricsListener);
+
+		if (stepThreads > 1) {
+			// 멀티스레드 Step: 청크마다 별도 스레드(트랜잭션)에서 read → process → write
+			// Reader는 readerType과 관계없이 PrefetchingItemStreamReader(커서 1개 + 버퍼, 커밋 기준 체크포인트)를 사용한다
+			if (readerType != ReaderType.JDBC_CURSOR) {
+				log.warn("dataProcessingStep reader {} is ignored in multi-threaded mode, using batchInputPrefetchingReader", readerType);
+			}
+			// 적응형 청크는 청크 시간을 스레드 하나 기준으로 측정하므로 멀티스레드에서는 초기 청크 사이즈로 고정
+			builder.reader(batchInputPrefetchingReader)
+					.listener((ChunkListener) batchInputPrefetchingReader)
+					.taskExecutor(BatchTaskExecutors.create("dataProcessingStep-", stepThreadMode, stepThreads));
+		} else {
+			builder.reader(reader)
+					.listener((ChunkListener) dataProcessingChunkPolicy);
+		}
+
+		return builder
+				// 재시도까지 실패한 외부 API 오류는 해당 아이템만 skip 후 batch_dead_letter에 기록 (청크 롤백 없음)
+				.faultTolerant()
+				.skip(ExternalApiException.class)
+				.skipLimit(skipLimit)
+				.noRollback(ExternalApiException.class)
+				.listener((SkipListener<BatchInput, BatchOutput>) deadLetterSkipListener)
 				.build();
 	}
 
+	/**
+	 * RowModel.RECORD용 dataProcessingStep: BatchInputRow projection을 인덱스 기반 매퍼로 읽는다.
+	 * Writer / 청크 정책 / skip 설정은 SYNC 단일 스레드 Step과 같다.
+	 */
+	private Step leanDataProcessingStep(JdbcCursorItemReader<BatchInputRow> reader, int skipLimit,
+										AdaptiveChunkCompletionPolicy dataProcessingChunkPolicy) {
+		return new StepBuilder("dataProcessingStep", jobRepository)
+				.<BatchInputRow, BatchOutput>chunk(dataProcessingChunkPolicy, transactionManager)
+				.reader(reader)
+				.processor(batchInputRowApiCallItemProcessor)
+				.writer(batchOutputCompositeWriter)
+				.listener(batchPerformanceListener)
+				.listener((StepExecutionListener) batchMetricsListener)
+				.listener((ChunkListener) batchMetricsListener)
+				.listener((ItemReadListener<Object>) batchMetricsListener)
+				.listener((ItemProcessListener<Object, Object>) batchMetricsListener)
+				.listener((ItemWriteListener<Object>) batchMetricsListener)
+				.listener((ChunkListener) dataProcessingChunkPolicy)
+				.faultTolerant()
+				.skip(ExternalApiException.class)
+				.skipLimit(skipLimit)
+				.noRollback(ExternalApiException.class)
+				.listener(deadLetterSkipListener.forRows())
+				.build();
+	}
+
+	/**
+	 * ProcessingMode.PIPELINED용 Tasklet. Reader는 JDBC 커서 고정(batch.processing.reader 무시), 청크 사이즈는 chunkSize JobParameter → 프로퍼티.
+	 */
+	@Bean
+	@StepScope
+	public PipelinedDataProcessingTasklet pipelinedDataProcessingTasklet(
+			@Qualifier("batchInputJdbcCursorItemReader") JdbcCursorItemReader<BatchInput> batchInputJdbcCursorItemReader,
+			@Value("#{jobParameters['chunkSize'] ?: ${batch.chunk.size:100}}") int chunkSize,
+			@Value("${batch.processing.pipeline.processor-threads:16}") int processorThreads,
+			@Value("${batch.processing.pipeline.read-queue-capacity:256}") int readQueueCapacity,
+			@Value("${batch.processing.pipeline.write-queue-capacity:256}") int writeQueueCapacity,
+			@Value("${batch.processing.pipeline.chunk-max-wait:500ms}") Duration chunkMaxWait,
+			@Value("${batch.processing.skip-limit:100}") int skipLimit) {
+		return new PipelinedDataProcessingTasklet(batchInputJdbcCursorItemReader, apiCallItemProcessor, batchOutputCompositeWriter,
+				deadLetterSkipListener, chunkSize, processorThreads, readQueueCapacity, writeQueueCapacity, chunkMaxWait, skipLimit);
+	}
+
+	/**
+	 * dataProcessingStep / dataProcessingWorkerStep의 청크 사이즈 정책.
+	 * StepExecution마다 새로 생성되며, 값은 JobParameter → 프로퍼티 순서로 결정된다.
+	 * <pre>
+	 * chunkSize=100 adaptiveChunk=true minChunkSize=10 maxChunkSize=1000 targetCommitIntervalMs=1000
+	 * </pre>
+	 */
+	@Bean
+	@StepScope
+	public AdaptiveChunkCompletionPolicy dataProcessingChunkPolicy(
+			@Value("#{jobParameters['chunkSize'] ?: ${batch.chunk.size:100}}") int chunkSize,
+			@Value("#{jobParameters['adaptiveChunk'] ?: ${batch.chunk.adaptive.enabled:false}}") boolean adaptive,
+			@Value("#{jobParameters['minChunkSize'] ?: ${batch.chunk.adaptive.min-size:10}}") int minChunkSize,
+			@Value("#{jobParameters['maxChunkSize'] ?: ${batch.chunk.adaptive.max-size:1000}}") int maxChunkSize,
+			@Value("#{jobParameters['targetCommitIntervalMs'] ?: ${batch.chunk.adaptive.target-commit-interval-ms:1000}}") long targetCommitIntervalMs,
+			MeterRegistry meterRegistry) {
+		log.info("chunkSize={}, adaptive={}, min={}, max={}, targetCommitInterval={}ms",
+				chunkSize, adaptive, minChunkSize, maxChunkSize, targetCommitIntervalMs);
+		return new AdaptiveChunkCompletionPolicy(chunkSize, adaptive, minChunkSize, maxChunkSize,
+				Duration.ofMillis(targetCommitIntervalMs), meterRegistry);
+	}
+
 	@Bean
 	public Step failStep() {
 		return new StepBuilder("failStep", jobRepository)
@@ -0,0 +1,131 @@
+package com.dev.batchpractice.job.dataprocessing;
+
+import com.dev.batchpractice.common.listener.BatchMetricsListener;
+import com.dev.batchpractice.common.listener.BatchPerformanceListener;
+import com.dev.batchpractice.common.support.BatchTaskExecutors;
+import com.dev.batchpractice.common.support.ThreadMode;
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import com.dev.batchpractice.domain.service.resilience.ExternalApiException;
+import com.dev.batchpractice.job.dataprocessing.chunk.AdaptiveChunkCompletionPolicy;
+import com.dev.batchpractice.job.dataprocessing.listener.DeadLetterSkipListener;
+import com.dev.batchpractice.job.dataprocessing.listener.ExternalApiThrottleListener;
+import com.dev.batchpractice.job.dataprocessing.partition.BatchInputIdRangePartitioner;
+import com.dev.batchpractice.job.dataprocessing.processor.ApiCallItemProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.listener.ChunkListener;
+import org.springframework.batch.core.listener.ItemProcessListener;
+import org.springframework.batch.core.listener.ItemReadListener;
+import org.springframework.batch.core.listener.ItemWriteListener;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.batch.core.listener.SkipListener;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.item.database.JdbcCursorItemReader;
+import org.springframework.batch.infrastructure.item.support.CompositeItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * dataProcessingStep을 id 범위 기반으로 파티셔닝한 Job.
+ * <p>
+ * Manager Step이 BatchInputIdRangePartitioner로 batch_input.id 구간을 gridSize 개로 나누고,
+ * 각 구간을 Worker Step(dataProcessingWorkerStep)이 별도 스레드에서 처리한다.
+ * 파티션 수 = 동시 실행 스레드 수 = {@code batch.partition.grid-size}
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class PartitionedDataProcessingJobConfig {
+
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+
+	private final BatchInputIdRangePartitioner batchInputIdRangePartitioner;
+	private final ApiCallItemProcessor apiCallItemProcessor;
+	private final CompositeItemWriter<BatchOutput> batchOutputCompositeWriter;
+
+	private final BatchPerformanceListener batchPerformanceListener;
+	private final BatchMetricsListener batchMetricsListener;
+	private final ExternalApiThrottleListener externalApiThrottleListener;
+	private final DeadLetterSkipListener deadLetterSkipListener;
+
+	@Bean
+	public Job partitionedDataProcessingJob(Step dataInitializationStep, Step dataProcessingManagerStep, Step failStep) {
+		return new JobBuilder("partitionedDataProcessingJob", jobRepository)
+				.start(dataInitializationStep)
+					.on("FAILED")
+					.to(failStep)
+				.from(dataInitializationStep)
+					.on("*")
+					.to(dataProcessingManagerStep)
+						.on("FAILED")
+						.to(failStep)
+					.from(dataProcessingManagerStep)
+						.on("*")
+						.end()
+				.end()
+				.listener(batchPerformanceListener)
+				.listener((JobExecutionListener) batchMetricsListener)
+				.listener(externalApiThrottleListener)
+				.build();
+	}
+
+	@Bean
+	public Step dataProcessingManagerStep(Step dataProcessingWorkerStep,
+										  @Value("${batch.partition.grid-size:4}") int gridSize,
+										  @Value("${batch.partition.thread-mode:PLATFORM}") ThreadMode threadMode) {
+		log.info("dataProcessingManagerStep gridSize: {}, threadMode: {}", gridSize, threadMode);
+
+		// 파티션 수만큼 스레드를 동시에 띄우되 그 이상은 만들지 않도록 제한
+		SimpleAsyncTaskExecutor taskExecutor = BatchTaskExecutors.create("partition-", threadMode, gridSize);
+
+		return new StepBuilder("dataProcessingManagerStep", jobRepository)
+				.partitioner("dataProcessingWorkerStep", batchInputIdRangePartitioner)
+				.step(dataProcessingWorkerStep)
+				.gridSize(gridSize)
+				.taskExecutor(taskExecutor)
+				.listener(batchPerformanceListener)
+				.listener((StepExecutionListener) batchMetricsListener)
+				.build();
+	}
+
+	/**
+	 * 파티션마다 하나씩 실행되는 Worker Step.
+	 * Reader는 Step 범위이므로 파티션별 StepExecution마다 독립된 커서와 ExecutionContext를 가진다.
+	 * 리스너는 실행 단위로 상태를 분리하므로 여러 파티션이 동시에 호출해도 안전하다.
+	 */
+	@Bean
+	public Step dataProcessingWorkerStep(@Qualifier("batchInputPartitionReader") JdbcCursorItemReader<BatchInput> batchInputPartitionReader,
+										 @Value("${batch.processing.skip-limit:100}") int skipLimit,
+										 AdaptiveChunkCompletionPolicy dataProcessingChunkPolicy) {
+		return new StepBuilder("dataProcessingWorkerStep", jobRepository)
+				.<BatchInput, BatchOutput>chunk(dataProcessingChunkPolicy, transactionManager)
+				.reader(batchInputPartitionReader)
+				.processor(apiCallItemProcessor)
+				.writer(batchOutputCompositeWriter)
+				.listener(batchPerformanceListener)
+				.listener((StepExecutionListener) batchMetricsListener)
+				.listener((ChunkListener) batchMetricsListener)
+				.listener((ItemReadListener<Object>) batchMetricsListener)
+				.listener((ItemProcessListener<Object, Object>) batchMetricsListener)
+				.listener((ItemWriteListener<Object>) batchMetricsListener)
+				.listener((ChunkListener) dataProcessingChunkPolicy)
+				// 재시도까지 실패한 외부 API 오류는 해당 아이템만 skip 후 batch_dead_letter에 기록 (청크 롤백 없음)
+				.faultTolerant()
+				.skip(ExternalApiException.class)
+				.skipLimit(skipLimit)
+				.noRollback(ExternalApiException.class)
+				.listener((SkipListener<BatchInput, BatchOutput>) deadLetterSkipListener)
+				.build();
+	}
+}
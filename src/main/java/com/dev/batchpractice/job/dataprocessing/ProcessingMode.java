@@ -0,0 +1,16 @@
+package com.dev.batchpractice.job.dataprocessing;
+
+/**
+ * dataProcessingStep의 Processor 실행 방식.
+ * <p>
+ * - SYNC : ApiCallItemProcessor가 아이템을 하나씩 순차 처리 (기본값)<br>
+ * - ASYNC : 청크 내 아이템을 가상 스레드로 동시에 외부 API 호출 후, Writer에서 입력 순서대로 결과를 모아 저장<br>
+ * - MICRO_BATCH : 아이템을 크기/시간 기준으로 모아 bulk API 한 번으로 호출 후, Writer에서 입력 순서대로 결과를 모아 저장<br>
+ * - PIPELINED : Reader 스레드 / Processor 스레드 풀 / Writer(Step 스레드)를 bounded 큐로 연결해 read·process·write를 겹쳐서 실행
+ */
+public enum ProcessingMode {
+	SYNC,
+	ASYNC,
+	MICRO_BATCH,
+	PIPELINED
+}
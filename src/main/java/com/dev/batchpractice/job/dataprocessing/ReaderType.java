@@ -0,0 +1,14 @@
+package com.dev.batchpractice.job.dataprocessing;
+
+/**
+ * dataProcessingStep에서 사용할 Reader 종류.
+ * <p>
+ * - JDBC_CURSOR : BatchInputJdbcCursorReader (커서 하나로 전체 스트리밍, 기본값)<br>
+ * - KEYSET_JDBC : keyset 페이징 + JDBC RowMapper<br>
+ * - KEYSET_JPA : keyset 페이징 + JPA(BatchInputRepository) 조회
+ */
+public enum ReaderType {
+	JDBC_CURSOR,
+	KEYSET_JDBC,
+	KEYSET_JPA
+}
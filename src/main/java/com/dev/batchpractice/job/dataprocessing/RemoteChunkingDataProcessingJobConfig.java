@@ -0,0 +1,97 @@
+package com.dev.batchpractice.job.dataprocessing;
+
+import com.dev.batchpractice.common.listener.BatchMetricsListener;
+import com.dev.batchpractice.common.listener.BatchPerformanceListener;
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.job.dataprocessing.chunk.remote.ChunkTransport;
+import com.dev.batchpractice.job.dataprocessing.chunk.remote.RemoteChunkingManagerItemWriter;
+import com.dev.batchpractice.job.dataprocessing.chunk.remote.RemoteChunkingWorkerGuard;
+import com.dev.batchpractice.job.dataprocessing.listener.ExternalApiThrottleListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.listener.ChunkListener;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.item.database.JdbcCursorItemReader;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * dataProcessingStep의 원격 청킹 버전.
+ * <p>
+ * Manager Step은 읽기만 하고 청크를 {@link ChunkTransport}로 보낸다.
+ * 비싼 구간(ApiCallItemProcessor의 외부 API 호출 + 저장)은 RemoteChunkingWorker 풀이 처리하고 응답을 돌려준다.
+ * 기본 전송(같은 JVM 큐)인데 이 JVM의 Worker가 꺼져 있으면 {@link RemoteChunkingWorkerGuard}가 Job 시작 시 실패시킨다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RemoteChunkingDataProcessingJobConfig {
+
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+
+	private final BatchPerformanceListener batchPerformanceListener;
+	private final BatchMetricsListener batchMetricsListener;
+	private final ExternalApiThrottleListener externalApiThrottleListener;
+	private final RemoteChunkingWorkerGuard remoteChunkingWorkerGuard;
+
+	@Bean
+	public Job remoteChunkingDataProcessingJob(Step dataInitializationStep, Step remoteChunkingManagerStep, Step failStep) {
+		return new JobBuilder("remoteChunkingDataProcessingJob", jobRepository)
+				.start(dataInitializationStep)
+					.on("FAILED")
+					.to(failStep)
+				.from(dataInitializationStep)
+					.on("*")
+					.to(remoteChunkingManagerStep)
+						.on("FAILED")
+						.to(failStep)
+					.from(remoteChunkingManagerStep)
+						.on("*")
+						.end()
+				.end()
+				.listener(remoteChunkingWorkerGuard)
+				.listener(batchPerformanceListener)
+				.listener((JobExecutionListener) batchMetricsListener)
+				.listener(externalApiThrottleListener)
+				.build();
+	}
+
+	@Bean
+	public Step remoteChunkingManagerStep(@Qualifier("batchInputJdbcCursorItemReader") JdbcCursorItemReader<BatchInput> batchInputJdbcCursorItemReader,
+										  RemoteChunkingManagerItemWriter remoteChunkingManagerItemWriter,
+										  @Value("${batch.chunk.size:100}") int chunkSize) {
+		return new StepBuilder("remoteChunkingManagerStep", jobRepository)
+				.<BatchInput, BatchInput>chunk(chunkSize)
+				.transactionManager(transactionManager)
+				.reader(batchInputJdbcCursorItemReader)
+				.writer(remoteChunkingManagerItemWriter)
+				.listener((StepExecutionListener) remoteChunkingManagerItemWriter)
+				.listener(batchPerformanceListener)
+				.listener((StepExecutionListener) batchMetricsListener)
+				.listener((ChunkListener) batchMetricsListener)
+				.build();
+	}
+
+	@Bean
+	@StepScope
+	public RemoteChunkingManagerItemWriter remoteChunkingManagerItemWriter(
+			ChunkTransport chunkTransport,
+			@Value("${batch.remote-chunking.max-outstanding:8}") int maxOutstanding,
+			@Value("${batch.remote-chunking.reply-timeout:5m}") Duration replyTimeout) {
+		log.info("remoteChunkingManagerStep maxOutstanding: {}, replyTimeout: {}", maxOutstanding, replyTimeout);
+		return new RemoteChunkingManagerItemWriter(chunkTransport, maxOutstanding, replyTimeout);
+	}
+}
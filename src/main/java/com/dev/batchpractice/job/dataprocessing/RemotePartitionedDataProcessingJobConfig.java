@@ -0,0 +1,83 @@
+package com.dev.batchpractice.job.dataprocessing;
+
+import com.dev.batchpractice.common.listener.BatchMetricsListener;
+import com.dev.batchpractice.common.listener.BatchPerformanceListener;
+import com.dev.batchpractice.job.dataprocessing.listener.ExternalApiThrottleListener;
+import com.dev.batchpractice.job.dataprocessing.partition.BatchInputIdRangePartitioner;
+import com.dev.batchpractice.job.dataprocessing.partition.remote.PartitionRequestChannel;
+import com.dev.batchpractice.job.dataprocessing.partition.remote.RemotePartitionHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * partitionedDataProcessingJob의 원격 버전.
+ * <p>
+ * Manager Step은 id 범위 파티션을 만들어 {@link PartitionRequestChannel}(기본: DB 큐 테이블)로 보내고,
+ * {@code batch.remote-partition.worker.enabled=true}인 JVM들이 요청을 받아 dataProcessingWorkerStep을 실행한다.
+ * 파티션 결과는 공유 JobRepository를 polling해서 모은다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RemotePartitionedDataProcessingJobConfig {
+
+	private static final String WORKER_STEP_NAME = "dataProcessingWorkerStep";
+
+	private final JobRepository jobRepository;
+	private final BatchInputIdRangePartitioner batchInputIdRangePartitioner;
+	private final PartitionRequestChannel partitionRequestChannel;
+
+	private final BatchPerformanceListener batchPerformanceListener;
+	private final BatchMetricsListener batchMetricsListener;
+	private final ExternalApiThrottleListener externalApiThrottleListener;
+
+	@Bean
+	public Job remotePartitionedDataProcessingJob(Step dataInitializationStep, Step remoteDataProcessingManagerStep, Step failStep) {
+		return new JobBuilder("remotePartitionedDataProcessingJob", jobRepository)
+				.start(dataInitializationStep)
+					.on("FAILED")
+					.to(failStep)
+				.from(dataInitializationStep)
+					.on("*")
+					.to(remoteDataProcessingManagerStep)
+						.on("FAILED")
+						.to(failStep)
+					.from(remoteDataProcessingManagerStep)
+						.on("*")
+						.end()
+				.end()
+				.listener(batchPerformanceListener)
+				.listener((JobExecutionListener) batchMetricsListener)
+				.listener(externalApiThrottleListener)
+				.build();
+	}
+
+	@Bean
+	public Step remoteDataProcessingManagerStep(@Value("${batch.partition.grid-size:4}") int gridSize,
+												@Value("${batch.remote-partition.poll-interval:1s}") Duration pollInterval,
+												@Value("${batch.remote-partition.timeout:1h}") Duration timeout) {
+		log.info("remoteDataProcessingManagerStep gridSize: {}, pollInterval: {}, timeout: {}", gridSize, pollInterval, timeout);
+
+		RemotePartitionHandler partitionHandler = new RemotePartitionHandler(
+				partitionRequestChannel, jobRepository, WORKER_STEP_NAME, gridSize, pollInterval, timeout);
+
+		return new StepBuilder("remoteDataProcessingManagerStep", jobRepository)
+				.partitioner(WORKER_STEP_NAME, batchInputIdRangePartitioner)
+				.partitionHandler(partitionHandler)
+				.listener(batchPerformanceListener)
+				.listener((StepExecutionListener) batchMetricsListener)
+				.build();
+	}
+}
@@ -0,0 +1,12 @@
+package com.dev.batchpractice.job.dataprocessing;
+
+/**
+ * dataProcessingStep(SYNC, 단일 스레드)에서 batch_input 행을 담을 타입.
+ * <p>
+ * - ENTITY : BatchInput 엔티티, 컬럼 이름으로 매핑 (기본값)<br>
+ * - RECORD : BatchInputRow projection, 컬럼 인덱스로 매핑 (박싱 / 엔티티 생성 없음, JDBC 커서 Reader 고정)
+ */
+public enum RowModel {
+	ENTITY,
+	RECORD
+}
@@ -0,0 +1,92 @@
+package com.dev.batchpractice.job.dataprocessing.chunk;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.listener.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.repeat.policy.SimpleCompletionPolicy;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * 측정한 청크 처리 시간(read → process → write → commit)을 기준으로 청크 사이즈를 늘리거나 줄이는 CompletionPolicy.
+ * <p>
+ * 청크가 끝날 때마다 "아이템당 소요 시간"을 계산하고, 목표 커밋 간격(target-commit-interval)에 맞는 크기로 조정한다.
+ * <ul>
+ *     <li>한 번에 최대 2배 / 절반까지만 변경 (급격한 흔들림 방지)</li>
+ *     <li>min ~ max 범위를 벗어나지 않음</li>
+ *     <li>변경 시 로그 + StepExecutionContext({@value #CHUNK_SIZE_KEY}) 기록, 청크 사이즈는 {@code batch.chunk.size} 분포로 기록</li>
+ * </ul>
+ * adaptive가 꺼져 있으면 초기 청크 사이즈로 고정된 SimpleCompletionPolicy와 같다.
+ * <p>
+ * StepExecution마다 새 인스턴스(@StepScope)를 사용하며, 멀티스레드 Step에서 공유하는 용도로는 만들지 않았다.
+ */
+@Slf4j
+public class AdaptiveChunkCompletionPolicy extends SimpleCompletionPolicy implements ChunkListener {
+
+	public static final String CHUNK_SIZE_KEY = "adaptive.chunk.size";
+
+	private final boolean adaptive;
+	private final int minChunkSize;
+	private final int maxChunkSize;
+	private final long targetCommitIntervalNanos;
+	private final MeterRegistry meterRegistry;
+
+	private long chunkStartNanos;
+	private long readCountAtChunkStart;
+
+	public AdaptiveChunkCompletionPolicy(int initialChunkSize, boolean adaptive, int minChunkSize, int maxChunkSize,
+										 Duration targetCommitInterval, MeterRegistry meterRegistry) {
+		super(initialChunkSize(initialChunkSize, adaptive, minChunkSize, maxChunkSize));
+		this.adaptive = adaptive;
+		this.minChunkSize = minChunkSize;
+		this.maxChunkSize = maxChunkSize;
+		this.targetCommitIntervalNanos = targetCommitInterval.toNanos();
+		this.meterRegistry = meterRegistry;
+	}
+
+	private static int initialChunkSize(int initialChunkSize, boolean adaptive, int minChunkSize, int maxChunkSize) {
+		Assert.isTrue(initialChunkSize > 0, () -> "chunkSize must be positive: " + initialChunkSize);
+		Assert.isTrue(minChunkSize > 0 && minChunkSize <= maxChunkSize,
+				() -> "Adaptive chunk size range must satisfy 0 < min <= max: min=" + minChunkSize + ", max=" + maxChunkSize);
+		return adaptive ? Math.clamp(initialChunkSize, minChunkSize, maxChunkSize) : initialChunkSize;
+	}
+
+	@Override
+	public void beforeChunk(ChunkContext context) {
+		chunkStartNanos = System.nanoTime();
+		readCountAtChunkStart = context.getStepContext().getStepExecution().getReadCount();
+	}
+
+	@Override
+	public void afterChunk(ChunkContext context) {
+		StepExecution stepExecution = context.getStepContext().getStepExecution();
+		long items = stepExecution.getReadCount() - readCountAtChunkStart;
+		long elapsedNanos = System.nanoTime() - chunkStartNanos;
+		int current = getChunkSize();
+
+		DistributionSummary.builder("batch.chunk.size")
+				.tag("step", stepExecution.getStepName())
+				.register(meterRegistry)
+				.record(items);
+
+		if (!adaptive || items == 0) {
+			return;
+		}
+
+		double nanosPerItem = (double) elapsedNanos / items;
+		int ideal = (int) Math.min(Integer.MAX_VALUE, targetCommitIntervalNanos / Math.max(nanosPerItem, 1));
+		int next = Math.clamp(Math.clamp(ideal, current / 2, (long) current * 2), minChunkSize, maxChunkSize);
+
+		if (next != current) {
+			setChunkSize(next);
+			stepExecution.getExecutionContext().putInt(CHUNK_SIZE_KEY, next);
+			log.info("[Adaptive Chunk] step={}, chunkSize {} -> {} (lastChunk: {} items in {}ms, target {}ms)",
+					stepExecution.getStepName(), current, next, items,
+					Duration.ofNanos(elapsedNanos).toMillis(), Duration.ofNanos(targetCommitIntervalNanos).toMillis());
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package com.dev.batchpractice.job.dataprocessing.chunk.remote;
+
+/**
+ * Worker가 청크 처리 후 돌려주는 응답(acknowledgement).
+ *
+ * @param writeCount Worker가 저장한 건수 (Processor가 걸러낸 아이템 제외)
+ * @param message    실패 시 원인
+ */
+public record ChunkReply(long stepExecutionId, int sequence, boolean success, int writeCount, String message) {
+
+	public static ChunkReply success(ChunkRequest request, int writeCount) {
+		return new ChunkReply(request.stepExecutionId(), request.sequence(), true, writeCount, null);
+	}
+
+	public static ChunkReply failure(ChunkRequest request, Throwable cause) {
+		return new ChunkReply(request.stepExecutionId(), request.sequence(), false, 0,
+				cause.getClass().getSimpleName() + ": " + cause.getMessage());
+	}
+}
@@ -0,0 +1,13 @@
+package com.dev.batchpractice.job.dataprocessing.chunk.remote;
+
+import com.dev.batchpractice.domain.entity.BatchInput;
+
+import java.util.List;
+
+/**
+ * Manager가 읽은 청크 하나. Worker는 이 아이템들을 처리(Processor) + 저장(Writer)한다.
+ *
+ * @param sequence Step 안에서의 청크 순번 (응답 매칭용)
+ */
+public record ChunkRequest(long jobExecutionId, long stepExecutionId, int sequence, List<BatchInput> items) {
+}
@@ -0,0 +1,40 @@
+package com.dev.batchpractice.job.dataprocessing.chunk.remote;
+
+import java.time.Duration;
+
+/**
+ * 원격 청킹의 요청/응답 전송 채널.
+ * <p>
+ * 기본 구현은 같은 JVM 안의 큐({@link InProcessChunkTransport})이며,
+ * 소켓 / 메시지 브로커로 바꾸려면 이 인터페이스를 구현한 Bean을 등록한다.
+ * 응답은 StepExecution별로 분리되어, 동시에 실행 중인 여러 Step이 서로의 응답을 가져가지 않는다.
+ */
+public interface ChunkTransport {
+
+	void send(ChunkRequest request);
+
+	/**
+	 * Worker 측: 요청을 하나 가져온다. timeout 안에 요청이 없으면 null.
+	 */
+	ChunkRequest receiveRequest(Duration timeout) throws InterruptedException;
+
+	void reply(ChunkReply reply);
+
+	/**
+	 * Manager 측: 해당 StepExecution의 응답을 하나 가져온다. timeout 안에 응답이 없으면 null.
+	 */
+	ChunkReply receiveReply(long stepExecutionId, Duration timeout) throws InterruptedException;
+
+	/**
+	 * Manager Step이 끝난 뒤 해당 StepExecution의 응답 채널을 정리한다.
+	 */
+	default void release(long stepExecutionId) {
+	}
+
+	/**
+	 * 같은 JVM 안에서만 전달되는 전송이면 true. 이때는 Manager와 같은 JVM에서 Worker가 실행 중이어야 한다.
+	 */
+	default boolean isLocal() {
+		return false;
+	}
+}
@@ -0,0 +1,67 @@
+package com.dev.batchpractice.job.dataprocessing.chunk.remote;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 JVM 안에서 BlockingQueue로 청크 요청/응답을 주고받는 기본 전송 채널.
+ * 외부 서비스 없이 Manager / Worker 동작과 backpressure를 확인하기 위한 용도이다.
+ * <p>
+ * 요청 큐 크기는 Manager 쪽 max-outstanding으로 제한되므로 별도 상한을 두지 않는다.
+ * 응답 큐는 Manager가 첫 요청을 보낼 때 만들고 release에서 지운다. 그 밖의(release 이후 도착한) 응답은 버린다.
+ */
+@Slf4j
+@Component
+public class InProcessChunkTransport implements ChunkTransport {
+
+	private final BlockingQueue<ChunkRequest> requests = new LinkedBlockingQueue<>();
+	private final Map<Long, BlockingQueue<ChunkReply>> replies = new ConcurrentHashMap<>();
+
+	@Override
+	public void send(ChunkRequest request) {
+		replyQueue(request.stepExecutionId());
+		requests.add(request);
+	}
+
+	@Override
+	public ChunkRequest receiveRequest(Duration timeout) throws InterruptedException {
+		return requests.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void reply(ChunkReply reply) {
+		BlockingQueue<ChunkReply> queue = replies.get(reply.stepExecutionId());
+		if (queue == null) {
+			// Manager Step이 이미 끝났으면(timeout 등) 받을 쪽이 없으므로 큐를 새로 만들지 않는다
+			log.warn("[RemoteChunking] dropping late reply for released StepExecution {}: {}", reply.stepExecutionId(), reply);
+			return;
+		}
+		queue.add(reply);
+	}
+
+	@Override
+	public ChunkReply receiveReply(long stepExecutionId, Duration timeout) throws InterruptedException {
+		return replyQueue(stepExecutionId).poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void release(long stepExecutionId) {
+		replies.remove(stepExecutionId);
+	}
+
+	@Override
+	public boolean isLocal() {
+		return true;
+	}
+
+	private BlockingQueue<ChunkReply> replyQueue(long stepExecutionId) {
+		return replies.computeIfAbsent(stepExecutionId, id -> new LinkedBlockingQueue<>());
+	}
+}
@@ -0,0 +1,107 @@
+package com.dev.batchpractice.job.dataprocessing.chunk.remote;
+
+import com.dev.batchpractice.domain.entity.BatchInput;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ItemWriter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원격 청킹 Manager 쪽 Writer. 읽은 청크를 저장하지 않고 {@link ChunkTransport}로 Worker에게 보낸다.
+ * <p>
+ * 응답을 받지 않은 청크가 max-outstanding개에 도달하면 응답이 올 때까지 Reader를 멈춘다 (backpressure).
+ * 실패 응답을 받으면 다음 write에서 예외를 던져 Step을 실패시키고,
+ * Step 종료 시(afterStep) 남은 응답을 모두 기다린 뒤 실패가 있으면 Step을 FAILED로 바꾼다.
+ * <p>
+ * Worker는 청크마다 자기 트랜잭션으로 batch_output 저장 + processed 갱신을 커밋하므로,
+ * 실패 후 재실행하면 Reader가 processed = false인 행(= Worker가 커밋하지 못한 청크)부터 다시 읽는다.
+ * StepExecution마다 새 인스턴스(@StepScope)를 사용한다.
+ */
+@Slf4j
+public class RemoteChunkingManagerItemWriter implements ItemWriter<BatchInput>, StepExecutionListener {
+
+	public static final String REMOTE_WRITE_COUNT_KEY = "remote.write.count";
+
+	private final ChunkTransport transport;
+	private final int maxOutstanding;
+	private final Duration replyTimeout;
+
+	private StepExecution stepExecution;
+	private int sequence;
+	private int outstanding;
+	private long remoteWriteCount;
+	private final List<String> failures = new ArrayList<>();
+
+	public RemoteChunkingManagerItemWriter(ChunkTransport transport, int maxOutstanding, Duration replyTimeout) {
+		this.transport = transport;
+		this.maxOutstanding = maxOutstanding;
+		this.replyTimeout = replyTimeout;
+	}
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		this.stepExecution = stepExecution;
+	}
+
+	@Override
+	public void write(Chunk<? extends BatchInput> chunk) throws Exception {
+		while (outstanding >= maxOutstanding) {
+			receiveReply();
+		}
+		throwIfFailed();
+
+		transport.send(new ChunkRequest(stepExecution.getJobExecutionId(), stepExecution.getId(), ++sequence, List.copyOf(chunk.getItems())));
+		outstanding++;
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		try {
+			while (outstanding > 0) {
+				receiveReply();
+			}
+		} catch (Exception e) {
+			failures.add(e.getMessage());
+		} finally {
+			transport.release(stepExecution.getId());
+		}
+
+		stepExecution.getExecutionContext().putLong(REMOTE_WRITE_COUNT_KEY, remoteWriteCount);
+		log.info("[RemoteChunking] {} chunks sent, {} items written by workers, {} failures",
+				sequence, remoteWriteCount, failures.size());
+
+		if (failures.isEmpty()) {
+			return stepExecution.getExitStatus();
+		}
+		stepExecution.setStatus(BatchStatus.FAILED);
+		return ExitStatus.FAILED.addExitDescription("Remote chunk failures: " + failures);
+	}
+
+	private void receiveReply() throws InterruptedException {
+		ChunkReply reply = transport.receiveReply(stepExecution.getId(), replyTimeout);
+		if (reply == null) {
+			throw new IllegalStateException("No reply from remote chunk workers within " + replyTimeout
+					+ " (" + outstanding + " chunks outstanding)");
+		}
+		outstanding--;
+		if (reply.success()) {
+			remoteWriteCount += reply.writeCount();
+		} else {
+			log.warn("[RemoteChunking] chunk #{} failed: {}", reply.sequence(), reply.message());
+			failures.add("chunk #" + reply.sequence() + ": " + reply.message());
+		}
+	}
+
+	private void throwIfFailed() {
+		if (!failures.isEmpty()) {
+			throw new IllegalStateException("Remote chunk processing failed: " + failures);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.dev.batchpractice.job.dataprocessing.chunk.remote;
+
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import com.dev.batchpractice.job.dataprocessing.processor.ApiCallItemProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.support.CompositeItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 원격 청킹 Worker 풀. {@link ChunkTransport}에서 청크를 받아 ApiCallItemProcessor → batchOutputCompositeWriter를 실행하고 응답을 보낸다.
+ * <p>
+ * {@code batch.remote-chunking.worker.enabled=true}일 때 {@code worker.concurrency}개의 가상 스레드가 요청을 받는다.
+ * 청크 하나의 저장(batch_output insert + processed 갱신)은 Worker 트랜잭션 하나로 커밋된다.
+ * <p>
+ * ApiCallItemProcessor는 Step 범위 빈이므로, 요청의 StepExecution을 JobRepository에서 읽어 Worker 스레드에 등록한 뒤 호출한다.
+ */
+@Slf4j
+@Component
+public class RemoteChunkingWorker implements SmartLifecycle {
+
+	private static final Duration RECEIVE_TIMEOUT = Duration.ofSeconds(1);
+
+	private final ChunkTransport transport;
+	private final JobRepository jobRepository;
+	private final ApiCallItemProcessor apiCallItemProcessor;
+	private final CompositeItemWriter<BatchOutput> batchOutputCompositeWriter;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean enabled;
+	private final int concurrency;
+
+	private ExecutorService executor;
+	private volatile boolean running;
+
+	public RemoteChunkingWorker(ChunkTransport transport,
+								JobRepository jobRepository,
+								ApiCallItemProcessor apiCallItemProcessor,
+								CompositeItemWriter<BatchOutput> batchOutputCompositeWriter,
+								PlatformTransactionManager transactionManager,
+								@Value("${batch.remote-chunking.worker.enabled:false}") boolean enabled,
+								@Value("${batch.remote-chunking.worker.concurrency:4}") int concurrency) {
+		this.transport = transport;
+		this.jobRepository = jobRepository;
+		this.apiCallItemProcessor = apiCallItemProcessor;
+		this.batchOutputCompositeWriter = batchOutputCompositeWriter;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.enabled = enabled;
+		this.concurrency = concurrency;
+	}
+
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		running = true;
+		executor = Executors.newVirtualThreadPerTaskExecutor();
+		for (int i = 0; i < concurrency; i++) {
+			executor.submit(this::receiveLoop);
+		}
+		log.info("[RemoteChunking] {} workers started", concurrency);
+	}
+
+	private void receiveLoop() {
+		while (running) {
+			try {
+				ChunkRequest request = transport.receiveRequest(RECEIVE_TIMEOUT);
+				if (request != null) {
+					transport.reply(handle(request));
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private ChunkReply handle(ChunkRequest request) {
+		StepExecution stepExecution = jobRepository.getStepExecution(request.jobExecutionId(), request.stepExecutionId());
+		if (stepExecution == null) {
+			return ChunkReply.failure(request, new IllegalStateException("StepExecution not found: " + request.stepExecutionId()));
+		}
+
+		StepSynchronizationManager.register(stepExecution);
+		try {
+			List<BatchOutput> outputs = new ArrayList<>(request.items().size());
+			for (BatchInput item : request.items()) {
+				BatchOutput output = apiCallItemProcessor.process(item);
+				if (output != null) {
+					outputs.add(output);
+				}
+			}
+
+			transactionTemplate.executeWithoutResult(status -> {
+				try {
+					batchOutputCompositeWriter.write(new Chunk<>(outputs));
+				} catch (Exception e) {
+					throw new IllegalStateException("Failed to write chunk #" + request.sequence(), e);
+				}
+			});
+			return ChunkReply.success(request, outputs.size());
+		} catch (Exception e) {
+			log.warn("[RemoteChunking] chunk #{} of step {} failed", request.sequence(), stepExecution.getStepName(), e);
+			return ChunkReply.failure(request, e);
+		} finally {
+			StepSynchronizationManager.release();
+		}
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+}
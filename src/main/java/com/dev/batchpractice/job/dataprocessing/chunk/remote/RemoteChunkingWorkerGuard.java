@@ -0,0 +1,28 @@
+package com.dev.batchpractice.job.dataprocessing.chunk.remote;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 JVM 안에서만 전달되는 전송({@link ChunkTransport#isLocal()})인데 이 JVM의 {@link RemoteChunkingWorker}가 꺼져 있으면
+ * 보낸 청크를 받을 쪽이 없어서, Manager는 max-outstanding개를 보낸 뒤 reply-timeout까지 기다리다 실패한다.
+ * 그 대신 Job 시작 시점에 바로 실패시킨다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RemoteChunkingWorkerGuard implements JobExecutionListener {
+
+	private final ChunkTransport transport;
+	private final RemoteChunkingWorker worker;
+
+	@Override
+	public void beforeJob(JobExecution jobExecution) {
+		if (transport.isLocal() && !worker.isRunning()) {
+			throw new IllegalStateException(transport.getClass().getSimpleName()
+					+ " only delivers chunks inside this JVM, but no RemoteChunkingWorker is running here:"
+					+ " set batch.remote-chunking.worker.enabled=true");
+		}
+	}
+}
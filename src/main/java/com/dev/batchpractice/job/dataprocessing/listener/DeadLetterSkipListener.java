@@ -0,0 +1,82 @@
+package com.dev.batchpractice.job.dataprocessing.listener;
+
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import com.dev.batchpractice.job.dataprocessing.reader.BatchInputRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.listener.SkipListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * skip된 아이템을 batch_dead_letter 테이블에 남기는 SkipListener.
+ * <p>
+ * SkipListener는 청크 커밋 직전에 같은 트랜잭션 안에서 호출되므로,
+ * dead letter 기록은 해당 청크의 batch_output / processed 갱신과 함께 커밋된다.
+ * skip된 batch_input은 processed=false로 남으므로 다음 실행에서 다시 처리 대상이 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterSkipListener implements SkipListener<BatchInput, BatchOutput> {
+
+	private static final int MAX_MESSAGE_LENGTH = 1000;
+	private static final String INSERT_SQL = """
+			INSERT INTO batch_dead_letter (job_execution_id, step_name, input_id, input_data, phase, error_type, error_message, created_at)
+			VALUES (?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void onSkipInRead(Throwable t) {
+		insert(null, null, "READ", t);
+	}
+
+	@Override
+	public void onSkipInProcess(BatchInput item, Throwable t) {
+		insert(item.getId(), item.getData(), "PROCESS", t);
+	}
+
+	@Override
+	public void onSkipInWrite(BatchOutput item, Throwable t) {
+		insert(item.getInputId(), item.getOriginalData(), "WRITE", t);
+	}
+
+	/**
+	 * BatchInputRow(projection)를 읽는 Step용 어댑터. 같은 테이블에 같은 형식으로 기록한다.
+	 */
+	public SkipListener<BatchInputRow, BatchOutput> forRows() {
+		return new SkipListener<>() {
+			@Override
+			public void onSkipInRead(Throwable t) {
+				DeadLetterSkipListener.this.onSkipInRead(t);
+			}
+
+			@Override
+			public void onSkipInProcess(BatchInputRow row, Throwable t) {
+				insert(row.id(), row.data(), "PROCESS", t);
+			}
+
+			@Override
+			public void onSkipInWrite(BatchOutput item, Throwable t) {
+				DeadLetterSkipListener.this.onSkipInWrite(item, t);
+			}
+		};
+	}
+
+	private void insert(Long inputId, String inputData, String phase, Throwable t) {
+		StepContext context = StepSynchronizationManager.getContext();
+		Long jobExecutionId = context != null ? context.getStepExecution().getJobExecutionId() : null;
+		String stepName = context != null ? context.getStepName() : "unknown";
+		String message = t.getMessage() != null && t.getMessage().length() > MAX_MESSAGE_LENGTH
+				? t.getMessage().substring(0, MAX_MESSAGE_LENGTH)
+				: t.getMessage();
+
+		jdbcTemplate.update(INSERT_SQL, jobExecutionId, stepName, inputId, inputData, phase, t.getClass().getName(), message);
+		log.warn("[DeadLetter] step={}, phase={}, inputId={}, error={}", stepName, phase, inputId, message);
+	}
+}
@@ -0,0 +1,57 @@
+package com.dev.batchpractice.job.dataprocessing.listener;
+
+import com.dev.batchpractice.domain.service.ExternalApiThrottle;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Job 파라미터로 외부 API 호출량 제어(ExternalApiThrottle)를 Job 단위로 설정하는 리스너.
+ * <p>
+ * JobParameter(없으면 properties 기본값)
+ * <ul>
+ *     <li>{@code apiRateLimit}: 초당 호출 수 (0 = 제한 없음)</li>
+ *     <li>{@code apiRateBurst}: 토큰 버킷 크기</li>
+ *     <li>{@code apiAdaptiveConcurrency}: AIMD 동시 호출 한도 사용 여부</li>
+ *     <li>{@code apiMaxConcurrency}: AIMD 한도의 상한</li>
+ * </ul>
+ * ExternalApiThrottle은 JVM 전체가 공유하므로 동시에 실행 중인 Job끼리는 마지막에 시작한 Job의 설정이 적용된다.
+ * 종료 시에는 자신이 마지막으로 설정한 Job일 때만 기본값으로 되돌린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalApiThrottleListener implements JobExecutionListener {
+
+	private final ExternalApiThrottle externalApiThrottle;
+	private final AtomicLong configuredBy = new AtomicLong(-1);
+
+	@Override
+	public void beforeJob(JobExecution jobExecution) {
+		JobParameters parameters = jobExecution.getJobParameters();
+		String rateLimit = parameters.getString("apiRateLimit");
+		String burst = parameters.getString("apiRateBurst");
+		String adaptive = parameters.getString("apiAdaptiveConcurrency");
+		String maxConcurrency = parameters.getString("apiMaxConcurrency");
+		if (rateLimit == null && burst == null && adaptive == null && maxConcurrency == null) {
+			return;
+		}
+
+		configuredBy.set(jobExecution.getId());
+		externalApiThrottle.configure(
+				rateLimit != null ? Double.valueOf(rateLimit) : null,
+				burst != null ? Integer.valueOf(burst) : null,
+				adaptive != null ? Boolean.valueOf(adaptive) : null,
+				maxConcurrency != null ? Integer.valueOf(maxConcurrency) : null);
+	}
+
+	@Override
+	public void afterJob(JobExecution jobExecution) {
+		if (configuredBy.compareAndSet(jobExecution.getId(), -1)) {
+			externalApiThrottle.reset();
+		}
+	}
+}
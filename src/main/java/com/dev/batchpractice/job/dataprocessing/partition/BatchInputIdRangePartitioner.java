@@ -0,0 +1,66 @@
+package com.dev.batchpractice.job.dataprocessing.partition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 처리되지 않은 batch_input의 id 범위(MIN ~ MAX)를 gridSize 개의 구간으로 나누는 Partitioner.
+ * <p>
+ * 각 파티션의 ExecutionContext에는 {@code minId}, {@code maxId}가 담기며,
+ * Step 범위 Reader가 {@code #{stepExecutionContext['minId']}}로 자신의 구간만 읽는다.
+ * <p>
+ * 재시작 시에는 partition()이 다시 호출되지 않고, 이전 실행의 파티션별 ExecutionContext가 그대로 재사용된다.
+ * 따라서 파티션마다 독립적으로 (실패한 파티션만) 재시작된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchInputIdRangePartitioner implements Partitioner {
+
+	public static final String MIN_ID_KEY = "minId";
+	public static final String MAX_ID_KEY = "maxId";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		long[] range = jdbcTemplate.queryForObject(
+				"SELECT MIN(id), MAX(id) FROM batch_input WHERE processed = false",
+				(rs, rowNum) -> {
+					long min = rs.getLong(1);
+					return rs.wasNull() ? null : new long[] { min, rs.getLong(2) };
+				});
+
+		Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+		if (range == null) {
+			log.info("No unprocessed batch_input rows. No partition created.");
+			return partitions;
+		}
+
+		long minId = range[0];
+		long maxId = range[1];
+		long targetSize = (maxId - minId) / gridSize + 1;
+
+		int number = 0;
+		for (long start = minId; start <= maxId; start += targetSize) {
+			long end = Math.min(start + targetSize - 1, maxId);
+
+			ExecutionContext context = new ExecutionContext();
+			context.putLong(MIN_ID_KEY, start);
+			context.putLong(MAX_ID_KEY, end);
+			partitions.put("partition" + number, context);
+
+			log.info("partition{}: id {} ~ {}", number, start, end);
+			number++;
+		}
+
+		return partitions;
+	}
+}
@@ -0,0 +1,80 @@
+package com.dev.batchpractice.job.dataprocessing.partition.remote;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * batch_partition_request 테이블을 큐로 쓰는 채널.
+ * <p>
+ * Manager와 Worker가 같은 DB(= JobRepository DB)를 보고 있으면 별도 브로커 없이 동작한다.
+ * Worker는 PENDING 요청을 id 순으로 조회한 뒤 {@code UPDATE ... WHERE status = 'PENDING'}으로 선점하고,
+ * 갱신 건수가 1인 Worker만 요청을 가져간다 (다른 Worker와 경합하면 다음 후보를 시도).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JdbcPartitionRequestChannel implements PartitionRequestChannel {
+
+	private static final int CANDIDATE_LIMIT = 10;
+
+	private static final String INSERT_SQL = """
+			INSERT INTO batch_partition_request (job_execution_id, step_execution_id, step_name, status, created_at)
+			VALUES (?, ?, ?, 'PENDING', CURRENT_TIMESTAMP)
+			""";
+	private static final String CANDIDATES_SQL = """
+			SELECT id FROM batch_partition_request WHERE status = 'PENDING' ORDER BY id LIMIT ?
+			""";
+	private static final String CLAIM_SQL = """
+			UPDATE batch_partition_request SET status = 'CLAIMED', worker_id = ?, claimed_at = CURRENT_TIMESTAMP
+			WHERE id = ? AND status = 'PENDING'
+			""";
+	private static final String SELECT_SQL = """
+			SELECT id, job_execution_id, step_execution_id, step_name FROM batch_partition_request WHERE id = ?
+			""";
+	private static final String COMPLETE_SQL = """
+			UPDATE batch_partition_request SET status = 'DONE', completed_at = CURRENT_TIMESTAMP WHERE id = ?
+			""";
+
+	private static final String CANCEL_SQL = """
+			UPDATE batch_partition_request SET status = 'CANCELLED', completed_at = CURRENT_TIMESTAMP
+			WHERE job_execution_id = ? AND status = 'PENDING'
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void send(PartitionRequest request) {
+		jdbcTemplate.update(INSERT_SQL, request.jobExecutionId(), request.stepExecutionId(), request.stepName());
+		log.debug("[RemotePartition] queued {}", request);
+	}
+
+	@Override
+	public Optional<PartitionRequest> receive(String workerId) {
+		List<Long> candidates = jdbcTemplate.queryForList(CANDIDATES_SQL, Long.class, CANDIDATE_LIMIT);
+		for (Long id : candidates) {
+			if (jdbcTemplate.update(CLAIM_SQL, workerId, id) == 1) {
+				return Optional.ofNullable(jdbcTemplate.queryForObject(SELECT_SQL, (rs, rowNum) -> new PartitionRequest(
+						rs.getLong("id"),
+						rs.getLong("job_execution_id"),
+						rs.getLong("step_execution_id"),
+						rs.getString("step_name")), id));
+			}
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public void complete(PartitionRequest request) {
+		jdbcTemplate.update(COMPLETE_SQL, request.id());
+	}
+
+	@Override
+	public int cancelPending(long jobExecutionId) {
+		return jdbcTemplate.update(CANCEL_SQL, jobExecutionId);
+	}
+}
@@ -0,0 +1,14 @@
+package com.dev.batchpractice.job.dataprocessing.partition.remote;
+
+/**
+ * Manager → Worker로 전달하는 파티션 실행 요청.
+ * StepExecution 자체는 JobRepository에 저장되어 있으므로 id만 주고받는다.
+ *
+ * @param id 채널이 부여한 요청 id (전송 전에는 null)
+ */
+public record PartitionRequest(Long id, long jobExecutionId, long stepExecutionId, String stepName) {
+
+	public static PartitionRequest of(long jobExecutionId, long stepExecutionId, String stepName) {
+		return new PartitionRequest(null, jobExecutionId, stepExecutionId, stepName);
+	}
+}
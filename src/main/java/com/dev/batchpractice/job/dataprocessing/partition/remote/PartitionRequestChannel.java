@@ -0,0 +1,28 @@
+package com.dev.batchpractice.job.dataprocessing.partition.remote;
+
+import java.util.Optional;
+
+/**
+ * 원격 파티셔닝 요청 전송 채널.
+ * <p>
+ * 기본 구현은 DB 큐 테이블({@link JdbcPartitionRequestChannel})이며, 소켓 / 브로커 등으로 바꾸려면 이 인터페이스를 구현한 Bean을 등록한다.
+ * 결과(파티션 StepExecution 상태)는 채널이 아니라 공유 JobRepository로 전달된다.
+ */
+public interface PartitionRequestChannel {
+
+	void send(PartitionRequest request);
+
+	/**
+	 * 대기 중인 요청 하나를 가져간다. 같은 요청은 한 Worker에게만 전달된다.
+	 */
+	Optional<PartitionRequest> receive(String workerId);
+
+	void complete(PartitionRequest request);
+
+	/**
+	 * 아직 Worker가 가져가지 않은 jobExecutionId의 요청을 취소한다 (Manager timeout 등).
+	 *
+	 * @return 취소한 요청 수
+	 */
+	int cancelPending(long jobExecutionId);
+}
@@ -0,0 +1,88 @@
+package com.dev.batchpractice.job.dataprocessing.partition.remote;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.PartitionHandler;
+import org.springframework.batch.core.partition.StepExecutionSplitter;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.StepExecution;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 파티션 StepExecution을 {@link PartitionRequestChannel}로 Worker에게 보내고, 결과는 JobRepository를 polling해서 모으는 PartitionHandler.
+ * <p>
+ * Worker가 파티션 Step을 실행하면 StepExecution 상태가 공유 JobRepository에 기록되므로
+ * 응답용 채널 없이 "모든 파티션 StepExecution이 실행 중이 아니게 될 때까지" 기다리면 된다.
+ * 집계(read/write count, 최종 상태)는 PartitionStep이 반환된 StepExecution들로 처리한다.
+ * <p>
+ * timeout 안에 끝나지 않으면 아직 아무 Worker도 가져가지 않은(PENDING) 요청을 취소하고 TimeoutException으로 Manager Step을 실패시킨다.
+ * 이때 Worker가 이미 실행 중인 파티션은 계속 돌 수 있으므로 재시작 전에 상태를 확인해야 한다.
+ */
+@Slf4j
+public class RemotePartitionHandler implements PartitionHandler {
+
+	private final PartitionRequestChannel channel;
+	private final JobRepository jobRepository;
+	private final String workerStepName;
+	private final int gridSize;
+	private final Duration pollInterval;
+	private final Duration timeout;
+
+	public RemotePartitionHandler(PartitionRequestChannel channel, JobRepository jobRepository, String workerStepName,
+								  int gridSize, Duration pollInterval, Duration timeout) {
+		this.channel = channel;
+		this.jobRepository = jobRepository;
+		this.workerStepName = workerStepName;
+		this.gridSize = gridSize;
+		this.pollInterval = pollInterval;
+		this.timeout = timeout;
+	}
+
+	@Override
+	public Collection<StepExecution> handle(StepExecutionSplitter stepSplitter, StepExecution managerStepExecution) throws Exception {
+		Set<StepExecution> partitions = stepSplitter.split(managerStepExecution, gridSize);
+		for (StepExecution partition : partitions) {
+			channel.send(PartitionRequest.of(partition.getJobExecutionId(), partition.getId(), workerStepName));
+		}
+		log.info("[RemotePartition] sent {} partition requests for {}", partitions.size(), workerStepName);
+
+		return awaitCompletion(partitions);
+	}
+
+	private Collection<StepExecution> awaitCompletion(Set<StepExecution> partitions) throws InterruptedException, TimeoutException {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		Map<Long, StepExecution> finished = new HashMap<>();
+		List<StepExecution> pending = new ArrayList<>(partitions);
+
+		while (true) {
+			pending.removeIf(partition -> {
+				StepExecution latest = jobRepository.getStepExecution(partition.getJobExecutionId(), partition.getId());
+				if (latest == null || latest.getStatus().isRunning()) {
+					return false;
+				}
+				finished.put(latest.getId(), latest);
+				log.info("[RemotePartition] {} finished with {}", latest.getStepName(), latest.getStatus());
+				return true;
+			});
+
+			if (pending.isEmpty()) {
+				return finished.values();
+			}
+			if (System.nanoTime() > deadline) {
+				// 남겨 두면 Job이 끝난 뒤에 Worker가 가져가 실행하므로 취소한다
+				int cancelled = channel.cancelPending(pending.getFirst().getJobExecutionId());
+				log.warn("[RemotePartition] timed out, cancelled {} pending partition requests", cancelled);
+				throw new TimeoutException("Timed out after " + timeout + " waiting for " + pending.size() + " remote partitions: "
+						+ pending.stream().map(StepExecution::getStepName).toList());
+			}
+			Thread.sleep(pollInterval.toMillis());
+		}
+	}
+}
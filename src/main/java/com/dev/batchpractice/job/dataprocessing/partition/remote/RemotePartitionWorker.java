@@ -0,0 +1,164 @@
+package com.dev.batchpractice.job.dataprocessing.partition.remote;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * {@link PartitionRequestChannel}에서 파티션 요청을 받아 Worker Step을 실행하는 컴포넌트.
+ * <p>
+ * {@code batch.remote-partition.worker.enabled=true}인 JVM에서만 동작한다.
+ * 요청의 StepExecution을 JobRepository에서 다시 읽어 Step 이름으로 찾은 Worker Step에 넘기므로,
+ * Step 실행 결과는 Manager와 같은 JobRepository에 기록된다.
+ * 동시에 실행하는 파티션 수는 {@code batch.remote-partition.worker.concurrency}로 제한한다.
+ * JobExecution이 더 이상 실행 중이 아니면(Manager timeout 등) 요청을 실행하지 않고 완료 처리한다.
+ */
+@Slf4j
+@Component
+public class RemotePartitionWorker implements SmartLifecycle {
+
+	private final PartitionRequestChannel channel;
+	private final JobRepository jobRepository;
+	private final BeanFactory beanFactory;
+	private final boolean enabled;
+	private final Semaphore permits;
+	private final Duration pollInterval;
+	private final String workerId;
+
+	private ExecutorService executor;
+	private Thread dispatcher;
+	private volatile boolean running;
+
+	public RemotePartitionWorker(PartitionRequestChannel channel,
+								 JobRepository jobRepository,
+								 BeanFactory beanFactory,
+								 @Value("${batch.remote-partition.worker.enabled:false}") boolean enabled,
+								 @Value("${batch.remote-partition.worker.concurrency:4}") int concurrency,
+								 @Value("${batch.remote-partition.poll-interval:1s}") Duration pollInterval) {
+		this.channel = channel;
+		this.jobRepository = jobRepository;
+		this.beanFactory = beanFactory;
+		this.enabled = enabled;
+		this.permits = new Semaphore(concurrency);
+		this.pollInterval = pollInterval;
+		this.workerId = hostName() + ":" + ProcessHandle.current().pid();
+	}
+
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		running = true;
+		executor = Executors.newVirtualThreadPerTaskExecutor();
+		// Worker 전용 JVM(spring.batch.job.enabled=false)이 종료되지 않도록 non-daemon 플랫폼 스레드로 요청을 받는다
+		dispatcher = Thread.ofPlatform().daemon(false).name("remote-partition-worker").start(this::dispatch);
+		log.info("[RemotePartition] worker {} started (concurrency={})", workerId, permits.availablePermits());
+	}
+
+	private void dispatch() {
+		while (running) {
+			try {
+				permits.acquire();
+				Optional<PartitionRequest> request = channel.receive(workerId);
+				if (request.isEmpty()) {
+					permits.release();
+					Thread.sleep(pollInterval.toMillis());
+					continue;
+				}
+				executor.submit(() -> {
+					try {
+						execute(request.get());
+					} finally {
+						permits.release();
+					}
+				});
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				permits.release();
+				log.warn("[RemotePartition] failed to receive partition request: {}", e.getMessage());
+				// DB 장애 동안 receive를 쉬지 않고 반복하지 않도록 poll 주기만큼 쉰다
+				try {
+					Thread.sleep(pollInterval.toMillis());
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	private void execute(PartitionRequest request) {
+		StepExecution stepExecution = null;
+		try {
+			stepExecution = jobRepository.getStepExecution(request.jobExecutionId(), request.stepExecutionId());
+			if (stepExecution == null) {
+				log.warn("[RemotePartition] StepExecution not found for {}", request);
+				return;
+			}
+			if (!stepExecution.getJobExecution().getStatus().isRunning()) {
+				// Manager가 timeout / 실패로 먼저 끝난 Job의 요청은 실행하지 않는다
+				log.warn("[RemotePartition] skipping {}: JobExecution {} is {}", request, request.jobExecutionId(),
+						stepExecution.getJobExecution().getStatus());
+				return;
+			}
+			Step step = beanFactory.getBean(request.stepName(), Step.class);
+			log.info("[RemotePartition] worker {} executing {}", workerId, stepExecution.getStepName());
+			step.execute(stepExecution);
+		} catch (Exception e) {
+			// Step 내부 오류는 Step이 StepExecution(FAILED)에 기록한다. 여기로 오는 것은 Step을 실행하지 못한 경우이므로
+			// Manager가 timeout까지 기다리지 않도록 직접 FAILED로 기록한다.
+			log.error("[RemotePartition] failed to execute {}", request, e);
+			if (stepExecution != null && stepExecution.getStatus().isRunning()) {
+				stepExecution.setStatus(BatchStatus.FAILED);
+				stepExecution.setExitStatus(ExitStatus.FAILED.addExitDescription(e));
+				jobRepository.update(stepExecution);
+			}
+		} finally {
+			channel.complete(request);
+		}
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		if (dispatcher != null) {
+			dispatcher.interrupt();
+			dispatcher = null;
+		}
+		if (executor != null) {
+			executor.shutdown();
+			executor = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private static String hostName() {
+		try {
+			return InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			return "unknown";
+		}
+	}
+}
@@ -0,0 +1,278 @@
+package com.dev.batchpractice.job.dataprocessing.pipeline;
+
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import com.dev.batchpractice.domain.service.resilience.ExternalApiException;
+import com.dev.batchpractice.job.dataprocessing.listener.DeadLetterSkipListener;
+import com.dev.batchpractice.job.dataprocessing.processor.ApiCallItemProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * read → process → write를 각각의 스테이지로 나눠 동시에 실행하는 Tasklet (batch.processing.mode=PIPELINED).
+ * <pre>
+ * [reader 스레드 1] ─▶ readQueue ─▶ [processor 스레드 N] ─▶ writeQueue ─▶ [Step 스레드: execute() = 청크 1개 write + commit]
+ * </pre>
+ * <ul>
+ *     <li>큐는 모두 크기가 정해져 있어서 뒤 스테이지가 느리면 앞 스테이지가 대기한다 (backpressure)</li>
+ *     <li>execute() 한 번이 청크 하나다. writeQueue에서 최대 chunkSize건(또는 chunk-max-wait까지 모인 만큼)을 꺼내
+ *         Step의 청크 트랜잭션 안에서 batch_output insert + processed 갱신을 하고 CONTINUABLE을 반환한다.
+ *         TaskletStep이 execute() 호출마다 커밋하고 StepExecution을 갱신하므로 커밋 단위는 일반 청크 Step과 같다</li>
+ *     <li>재시작: Reader는 saveState=false, 체크포인트는 processed 컬럼뿐이다.
+ *         커밋되지 않은(큐에 있던) 아이템은 processed = false로 남아 다음 실행에서 다시 읽힌다</li>
+ *     <li>ExternalApiException은 skipLimit까지 해당 아이템만 건너뛰고 batch_dead_letter에 기록, 그 밖의 예외는 Step 실패</li>
+ * </ul>
+ * 아이템 처리 순서와 커밋 순서는 입력 순서와 다를 수 있다 (각 아이템의 결과와 processed 갱신은 항상 같은 트랜잭션).
+ * <p>
+ * TaskletStep이 Tasklet을 StepExecutionListener로 자동 등록하므로 Step에 리스너로 따로 등록하지 않는다.
+ */
+@Slf4j
+public class PipelinedDataProcessingTasklet implements Tasklet, StepExecutionListener {
+
+	private static final Object END = new Object();
+	private static final long POLL_MILLIS = 100;
+
+	private final ItemStreamReader<BatchInput> reader;
+	private final ApiCallItemProcessor processor;
+	private final ItemWriter<BatchOutput> writer;
+	private final DeadLetterSkipListener deadLetterSkipListener;
+	private final int chunkSize;
+	private final int processorThreads;
+	private final Duration chunkMaxWait;
+	private final int skipLimit;
+
+	private final BlockingQueue<Object> readQueue;
+	private final BlockingQueue<Object> writeQueue;
+	private final AtomicInteger activeProcessors = new AtomicInteger();
+	private final AtomicLong readCount = new AtomicLong();
+	private final AtomicLong readQueueFullWaits = new AtomicLong();
+	private final AtomicLong writeQueueEmptyWaits = new AtomicLong();
+	private final List<Thread> threads = new ArrayList<>();
+
+	private volatile boolean stopped;
+	private volatile Throwable failure;
+	private long reportedReadCount;
+	private int skipCount;
+	private boolean finished;
+
+	public PipelinedDataProcessingTasklet(ItemStreamReader<BatchInput> reader, ApiCallItemProcessor processor, ItemWriter<BatchOutput> writer,
+										  DeadLetterSkipListener deadLetterSkipListener, int chunkSize, int processorThreads,
+										  int readQueueCapacity, int writeQueueCapacity, Duration chunkMaxWait, int skipLimit) {
+		this.reader = reader;
+		this.processor = processor;
+		this.writer = writer;
+		this.deadLetterSkipListener = deadLetterSkipListener;
+		this.chunkSize = chunkSize;
+		this.processorThreads = processorThreads;
+		this.chunkMaxWait = chunkMaxWait;
+		this.skipLimit = skipLimit;
+		this.readQueue = new ArrayBlockingQueue<>(readQueueCapacity);
+		this.writeQueue = new ArrayBlockingQueue<>(writeQueueCapacity);
+	}
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		if (!threads.isEmpty()) {
+			return;
+		}
+		reader.open(new ExecutionContext());
+		activeProcessors.set(processorThreads);
+		threads.add(Thread.ofVirtual().name("pipeline-reader").start(() -> runInStep(stepExecution, this::readStage)));
+		for (int i = 0; i < processorThreads; i++) {
+			threads.add(Thread.ofVirtual().name("pipeline-processor-" + i).start(() -> runInStep(stepExecution, this::processStage)));
+		}
+		log.info("[Pipeline] started: chunkSize={}, processorThreads={}, readQueue={}, writeQueue={}",
+				chunkSize, processorThreads, readQueue.remainingCapacity(), writeQueue.remainingCapacity());
+	}
+
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+		List<BatchOutput> outputs = new ArrayList<>(chunkSize);
+		int taken = 0;
+		long deadline = 0;
+
+		while (taken < chunkSize) {
+			throwIfFailed();
+			Object next = writeQueue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+			if (next == null) {
+				writeQueueEmptyWaits.incrementAndGet();
+				// 청크를 일부라도 모았으면 chunk-max-wait 이후에는 모인 만큼 커밋한다
+				if (taken > 0 && System.nanoTime() >= deadline) {
+					break;
+				}
+				continue;
+			}
+			if (next == END) {
+				// 스테이지가 실패해도 END는 보내므로, 실패가 기록돼 있으면 정상 종료로 보지 않는다
+				throwIfFailed();
+				finished = true;
+				break;
+			}
+			if (taken++ == 0) {
+				deadline = System.nanoTime() + chunkMaxWait.toNanos();
+			}
+			if (next instanceof Skipped skipped) {
+				if (++skipCount > skipLimit) {
+					throw new IllegalStateException("Skip limit " + skipLimit + " exceeded in pipelined dataProcessingStep", skipped.error());
+				}
+				contribution.incrementProcessSkipCount();
+				deadLetterSkipListener.onSkipInProcess(skipped.item(), skipped.error());
+			} else {
+				outputs.add((BatchOutput) next);
+			}
+		}
+
+		long read = readCount.get();
+		for (long i = reportedReadCount; i < read; i++) {
+			contribution.incrementReadCount();
+		}
+		reportedReadCount = read;
+
+		if (!outputs.isEmpty()) {
+			writer.write(new Chunk<>(outputs));
+			contribution.incrementWriteCount(outputs.size());
+		}
+		return finished ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+	}
+
+	private void readStage() throws Exception {
+		try {
+			BatchInput item;
+			while (!stopped && (item = reader.read()) != null) {
+				readCount.incrementAndGet();
+				put(readQueue, item, readQueueFullWaits);
+			}
+		} catch (Throwable e) {
+			// END보다 먼저 실패를 기록해야 Writer가 END를 정상 종료로 착각하지 않는다
+			fail(e);
+			throw e;
+		} finally {
+			// 처리 스레드마다 하나씩 종료 신호
+			for (int i = 0; i < processorThreads; i++) {
+				put(readQueue, END, readQueueFullWaits);
+			}
+		}
+	}
+
+	private void processStage() throws Exception {
+		try {
+			while (!stopped) {
+				Object next = readQueue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (next == null) {
+					continue;
+				}
+				if (next == END) {
+					break;
+				}
+				BatchInput item = (BatchInput) next;
+				Object result;
+				try {
+					result = processor.process(item);
+				} catch (ExternalApiException e) {
+					result = new Skipped(item, e);
+				}
+				if (result != null) {
+					put(writeQueue, result, null);
+				}
+			}
+		} catch (Throwable e) {
+			fail(e);
+			throw e;
+		} finally {
+			// 마지막 처리 스레드가 Writer 스테이지에 종료를 알린다
+			if (activeProcessors.decrementAndGet() == 0) {
+				put(writeQueue, END, null);
+			}
+		}
+	}
+
+	private void put(BlockingQueue<Object> queue, Object element, AtomicLong fullWaits) throws InterruptedException {
+		while (!queue.offer(element, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+			if (fullWaits != null) {
+				fullWaits.incrementAndGet();
+			}
+			if (stopped) {
+				return;
+			}
+		}
+	}
+
+	private void runInStep(StepExecution stepExecution, Stage stage) {
+		// reader / processor는 Step 범위 프록시이므로 스테이지 스레드에도 StepExecution을 등록한다
+		StepSynchronizationManager.register(stepExecution);
+		try {
+			stage.run();
+		} catch (Throwable e) {
+			fail(e);
+			log.error("[Pipeline] stage {} failed", Thread.currentThread().getName(), e);
+		} finally {
+			StepSynchronizationManager.release();
+		}
+	}
+
+	private void fail(Throwable e) {
+		if (failure == null) {
+			failure = e;
+		}
+		stopped = true;
+	}
+
+	private void throwIfFailed() throws Exception {
+		Throwable error = failure;
+		if (error instanceof Exception exception) {
+			throw exception;
+		}
+		if (error != null) {
+			throw new IllegalStateException("Pipeline stage failed", error);
+		}
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		stopped = true;
+		for (Thread thread : threads) {
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		threads.clear();
+		reader.close();
+		log.info("[Pipeline] finished: read={}, skipped={}, readQueueFullWaits={}, writeQueueEmptyPolls={}",
+				readCount.get(), skipCount, readQueueFullWaits.get(), writeQueueEmptyWaits.get());
+		if (failure != null) {
+			return ExitStatus.FAILED.addExitDescription(failure);
+		}
+		return stepExecution.getExitStatus();
+	}
+
+	@FunctionalInterface
+	private interface Stage {
+		void run() throws Exception;
+	}
+
+	private record Skipped(BatchInput item, ExternalApiException error) {
+	}
+}
@@ -2,40 +2,69 @@ package com.dev.batchpractice.job.dataprocessing.processor;
 
 import com.dev.batchpractice.domain.entity.BatchInput;
 import com.dev.batchpractice.domain.entity.BatchOutput;
+import com.dev.batchpractice.domain.service.ApiCacheMode;
+import com.dev.batchpractice.domain.service.CachedExternalApiService;
 import com.dev.batchpractice.domain.service.ExternalApiService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.infrastructure.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@StepScope
 public class ApiCallItemProcessor implements ItemProcessor<BatchInput, BatchOutput> {
 
 	private final ExternalApiService externalApiService;
+	private final CachedExternalApiService cachedExternalApiService;
+	private final ApiCacheMode apiCacheMode;
+
+	// 늦은 바인딩(Late Binding): apiCacheMode = USE(기본) | BYPASS | REFRESH
+	public ApiCallItemProcessor(ExternalApiService externalApiService,
+								CachedExternalApiService cachedExternalApiService,
+								@Value("#{jobParameters['apiCacheMode']}") String apiCacheMode) {
+		this.externalApiService = externalApiService;
+		this.cachedExternalApiService = cachedExternalApiService;
+		this.apiCacheMode = ApiCacheMode.from(apiCacheMode);
+	}
 
 	@Override
 	public BatchOutput process(BatchInput item) {
-		log.info("Processing item: id={}, name={}", item.getId(), item.getInputName());
+		return process(item.getId(), item.getInputName(), item.getData());
+	}
+
+	/**
+	 * 엔티티 / projection(BatchInputRow) 어느 쪽에서도 호출할 수 있도록 필요한 값만 받는 버전.
+	 */
+	public BatchOutput process(long inputId, String inputName, String data) {
+		log.info("Processing item: id={}, name={}", inputId, inputName);
 
-		// 외부 API 호출 (150ms 응답 시간)
-		String apiResponse = externalApiService.callExternalApi(item.getData());
+		// 외부 API 호출 (150ms 응답 시간, 캐시 hit 시 생략)
+		String apiResponse = cachedExternalApiService.callExternalApi(data, apiCacheMode);
 
 		// API 응답 처리
 		String processedData = externalApiService.processApiResponse(apiResponse);
 
 		// BatchOutput 엔티티 생성
-		BatchOutput output = BatchOutput.builder()
-				.inputId(item.getId())
-				.name(item.getInputName())
-				.originalData(item.getData())
-				.processedData(processedData)
-				.apiResponse(apiResponse)
-				.build();
+		BatchOutput output = createOutput(inputId, inputName, data, apiResponse, processedData);
 
-		log.info("Processed item: inputId={}, processedData={}", item.getId(), processedData);
+		log.info("Processed item: inputId={}, processedData={}", inputId, processedData);
 
 		return output;
 	}
+
+	static BatchOutput createOutput(BatchInput item, String apiResponse, String processedData) {
+		return createOutput(item.getId(), item.getInputName(), item.getData(), apiResponse, processedData);
+	}
+
+	static BatchOutput createOutput(long inputId, String inputName, String data, String apiResponse, String processedData) {
+		return BatchOutput.builder()
+				.inputId(inputId)
+				.name(inputName)
+				.originalData(data)
+				.processedData(processedData)
+				.apiResponse(apiResponse)
+				.build();
+	}
 }
@@ -0,0 +1,155 @@
+package com.dev.batchpractice.job.dataprocessing.processor;
+
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.listener.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ItemProcessor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ApiCallItemProcessor를 가상 스레드에서 실행하고 Future를 즉시 반환하는 비동기 Processor.
+ * <p>
+ * 청크 안의 아이템들이 외부 API(150ms)를 동시에 호출하므로, 청크 처리 시간이
+ * "아이템 수 × 150ms"가 아니라 대략 "150ms × (아이템 수 / 동시 호출 한도)"로 줄어든다.
+ * <p>
+ * 동시에 진행 중인 호출 수는 {@code batch.processing.async.max-in-flight}로 제한하며,
+ * 한도에 도달하면 Reader 스레드가 permit을 얻을 때까지 대기한다 (backpressure).
+ * 결과는 {@link com.dev.batchpractice.job.dataprocessing.writer.AsyncBatchOutputWriter}가 입력 순서대로 꺼내 저장한다.
+ * <p>
+ * delegate(ApiCallItemProcessor)는 Step 범위 빈이므로, 가상 스레드에도 현재 StepExecution을 등록해서
+ * Step 범위 프록시와 jobParameters 늦은 바인딩이 동작하도록 한다.
+ * <p>
+ * process()는 Future만 반환하므로 아이템 처리 시간({@code batch.item.process})은 BatchMetricsListener 대신
+ * 가상 스레드 안에서 외부 API 호출을 감싸서 기록한다. permit 대기 시간은 포함하지 않는다.
+ * <p>
+ * 청크가 롤백되면(afterChunkError) 그 청크에서 제출한 Future 중 아직 끝나지 않은 것을 취소(interrupt)한다.
+ * 롤백된 아이템은 어차피 다시 처리되므로, 남은 호출을 계속 진행하면 외부 API를 중복 호출하고 in-flight 한도도 그만큼 잡아 두게 된다.
+ * 청크 하나의 process → write → afterChunk는 같은 스레드에서 실행되므로 청크별 Future는 ThreadLocal에 모은다.
+ */
+@Slf4j
+@Component
+public class AsyncApiCallItemProcessor implements ItemProcessor<BatchInput, Future<BatchOutput>>, ChunkListener,
+		DisposableBean, MeterBinder {
+
+	private final ApiCallItemProcessor delegate;
+	private final int maxInFlight;
+	private final MeterRegistry meterRegistry;
+	private final Semaphore inFlightPermits;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final ThreadLocal<List<Future<BatchOutput>>> futuresInChunk = ThreadLocal.withInitial(ArrayList::new);
+
+	public AsyncApiCallItemProcessor(ApiCallItemProcessor delegate,
+									 @Value("${batch.processing.async.max-in-flight:32}") int maxInFlight,
+									 MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.maxInFlight = maxInFlight;
+		this.meterRegistry = meterRegistry;
+		this.inFlightPermits = new Semaphore(maxInFlight);
+		log.info("AsyncApiCallItemProcessor initialized. maxInFlight={}", maxInFlight);
+	}
+
+	@Override
+	public Future<BatchOutput> process(BatchInput item) throws Exception {
+		StepContext stepContext = StepSynchronizationManager.getContext();
+		StepExecution stepExecution = stepContext != null ? stepContext.getStepExecution() : null;
+
+		inFlightPermits.acquire();
+		// permit은 작업을 실행한 스레드, 또는 실행 전에 취소된 경우 done()에서 한 번만 반납한다
+		AtomicBoolean permitClaimed = new AtomicBoolean();
+		FutureTask<BatchOutput> future = new FutureTask<>(() -> {
+			if (!permitClaimed.compareAndSet(false, true)) {
+				return null;
+			}
+			if (stepExecution != null) {
+				StepSynchronizationManager.register(stepExecution);
+			}
+			try {
+				long startNanos = System.nanoTime();
+				BatchOutput output = delegate.process(item);
+				Timer.builder("batch.item.process")
+						.tag("step", stepExecution != null ? stepExecution.getStepName() : "unknown")
+						.publishPercentileHistogram()
+						.register(meterRegistry)
+						.record(Duration.ofNanos(System.nanoTime() - startNanos));
+				return output;
+			} catch (Exception e) {
+				// 어떤 아이템이 실패했는지 Writer에서 보고할 수 있도록 inputId를 메시지에 남긴다
+				throw new IllegalStateException("External API call failed: inputId=" + item.getId(), e);
+			} finally {
+				if (stepExecution != null) {
+					StepSynchronizationManager.release();
+				}
+				inFlightPermits.release();
+			}
+		}) {
+			@Override
+			protected void done() {
+				if (isCancelled() && permitClaimed.compareAndSet(false, true)) {
+					inFlightPermits.release();
+				}
+			}
+		};
+		try {
+			executor.execute(future);
+		} catch (RejectedExecutionException e) {
+			inFlightPermits.release();
+			throw e;
+		}
+		futuresInChunk.get().add(future);
+		return future;
+	}
+
+	@Override
+	public void afterChunk(ChunkContext context) {
+		futuresInChunk.remove();
+	}
+
+	@Override
+	public void afterChunkError(ChunkContext context) {
+		List<Future<BatchOutput>> futures = futuresInChunk.get();
+		futuresInChunk.remove();
+		int cancelled = 0;
+		for (Future<BatchOutput> future : futures) {
+			if (future.cancel(true)) {
+				cancelled++;
+			}
+		}
+		if (cancelled > 0) {
+			log.warn("Chunk rolled back, cancelled {} of {} async API calls", cancelled, futures.size());
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("batch.processing.async.in_flight", inFlightPermits, permits -> maxInFlight - permits.availablePermits())
+				.description("Async processor tasks holding an in-flight permit")
+				.register(registry);
+	}
+
+	@Override
+	public void destroy() {
+		executor.close();
+	}
+}
@@ -0,0 +1,23 @@
+package com.dev.batchpractice.job.dataprocessing.processor;
+
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import com.dev.batchpractice.job.dataprocessing.reader.BatchInputRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.infrastructure.item.ItemProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * BatchInputRow(projection)용 Processor. 처리 로직은 ApiCallItemProcessor와 같다.
+ * ApiCallItemProcessor는 Step 범위 프록시이므로 apiCacheMode 늦은 바인딩도 그대로 적용된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchInputRowApiCallItemProcessor implements ItemProcessor<BatchInputRow, BatchOutput> {
+
+	private final ApiCallItemProcessor apiCallItemProcessor;
+
+	@Override
+	public BatchOutput process(BatchInputRow row) {
+		return apiCallItemProcessor.process(row.id(), row.inputName(), row.data());
+	}
+}
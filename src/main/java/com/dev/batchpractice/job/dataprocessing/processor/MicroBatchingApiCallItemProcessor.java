@@ -0,0 +1,53 @@
+package com.dev.batchpractice.job.dataprocessing.processor;
+
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import com.dev.batchpractice.domain.service.ApiCacheMode;
+import com.dev.batchpractice.domain.service.CachedExternalApiService;
+import com.dev.batchpractice.domain.service.ExternalApiMicroBatcher;
+import com.dev.batchpractice.domain.service.ExternalApiService;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.infrastructure.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Future;
+
+/**
+ * 아이템을 ExternalApiMicroBatcher에 넘기고 Future를 즉시 반환하는 Processor (MICRO_BATCH 모드).
+ * <p>
+ * 청크 루프가 아이템을 연달아 넘기므로 한 청크가 대부분 하나의 bulk 요청으로 묶인다.
+ * ApiCallItemProcessor와 같이 {@code apiCacheMode}에 따라 CachedExternalApiService를 먼저 거치므로,
+ * 캐시 hit는 바로 완료되고 miss만 bulk 요청에 들어간다.
+ * 결과는 AsyncBatchOutputWriter가 입력 순서대로 꺼내 저장한다.
+ */
+@Component
+@StepScope
+public class MicroBatchingApiCallItemProcessor implements ItemProcessor<BatchInput, Future<BatchOutput>> {
+
+	private final ExternalApiMicroBatcher externalApiMicroBatcher;
+	private final CachedExternalApiService cachedExternalApiService;
+	private final ExternalApiService externalApiService;
+	private final ApiCacheMode apiCacheMode;
+
+	public MicroBatchingApiCallItemProcessor(ExternalApiMicroBatcher externalApiMicroBatcher,
+											 CachedExternalApiService cachedExternalApiService,
+											 ExternalApiService externalApiService,
+											 @Value("#{jobParameters['apiCacheMode']}") String apiCacheMode) {
+		this.externalApiMicroBatcher = externalApiMicroBatcher;
+		this.cachedExternalApiService = cachedExternalApiService;
+		this.externalApiService = externalApiService;
+		this.apiCacheMode = ApiCacheMode.from(apiCacheMode);
+	}
+
+	@Override
+	public Future<BatchOutput> process(BatchInput item) {
+		return cachedExternalApiService.callExternalApiAsync(item.getData(), apiCacheMode, externalApiMicroBatcher::submit)
+				.handle((apiResponse, error) -> {
+					if (error != null) {
+						throw new IllegalStateException("External API call failed: inputId=" + item.getId(), error);
+					}
+					return ApiCallItemProcessor.createOutput(item, apiResponse, externalApiService.processApiResponse(apiResponse));
+				});
+	}
+}
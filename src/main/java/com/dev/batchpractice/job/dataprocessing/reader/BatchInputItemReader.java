@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.infrastructure.item.database.JpaPagingItemReader;
 import org.springframework.batch.infrastructure.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
 
@@ -16,16 +17,21 @@ import org.springframework.stereotype.Component;
 public class BatchInputItemReader {
 
     private final EntityManagerFactory entityManagerFactory;
-    private static final int CHUNK_SIZE = 10;
 
+    /**
+     * OFFSET 기반 페이징 Reader (비교용으로 남겨둠).
+     * 페이지가 뒤로 갈수록 OFFSET n 스캔 비용이 커지고, 실행 도중 processed가 true로 바뀌면
+     * 결과 집합이 앞으로 당겨져서 행을 건너뛴다. dataProcessingStep에서는 BatchInputKeysetPagingReader를 사용한다.
+     */
     @Bean
     @StepScope
-    public JpaPagingItemReader<BatchInput> batchInputReader() {
+    public JpaPagingItemReader<BatchInput> batchInputReader(
+            @Value("#{jobParameters['chunkSize'] ?: ${batch.chunk.size:100}}") int pageSize) {
         return new JpaPagingItemReaderBuilder<BatchInput>()
                 .name("batchInputReader")
                 .entityManagerFactory(entityManagerFactory)
                 .queryString("SELECT b FROM BatchInput b WHERE b.processed = false ORDER BY b.id")
-                .pageSize(CHUNK_SIZE)
+                .pageSize(pageSize)
                 .build();
     }
 }
@@ -2,10 +2,12 @@ package com.dev.batchpractice.job.dataprocessing.reader;
 
 import com.dev.batchpractice.domain.entity.BatchInput;
 import com.dev.batchpractice.job.dataprocessing.reader.mapper.BatchInputRowMapper;
+import com.dev.batchpractice.job.dataprocessing.reader.mapper.IndexedBatchInputRowMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.infrastructure.item.database.JdbcCursorItemReader;
 import org.springframework.batch.infrastructure.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.stereotype.Component;
@@ -18,19 +20,63 @@ public class BatchInputJdbcCursorReader {
 
     private final DataSource dataSource;
     private final ArgumentPreparedStatementSetter processedFalseSetter;
+    private final CursorReaderSettings cursorReaderSettings;
 
     @Bean
     @StepScope
     public JdbcCursorItemReader<BatchInput> batchInputJdbcCursorItemReader() {
-        return new JdbcCursorItemReaderBuilder<BatchInput>()
+        return cursorReaderSettings.apply(new JdbcCursorItemReaderBuilder<BatchInput>())
                 .name("batchInputJdbcCursorItemReader")
                 .dataSource(dataSource)
-                .sql("SELECT id, data, processed FROM batch_input WHERE processed = ? ORDER BY id")
+                .sql("SELECT id, input_name, data, processed FROM batch_input WHERE processed = ? ORDER BY id")
                 .rowMapper(new BatchInputRowMapper())
                 .preparedStatementSetter(processedFalseSetter)
+                // 처리한 행은 같은 청크 트랜잭션에서 processed = true로 바뀌므로 재시작 시 WHERE 조건만으로 이어서 읽을 수 있다.
+                // 읽은 건수(read.count)를 저장해 두면 재시작 시 이미 줄어든 결과에서 그만큼 건너뛰어 미처리 행을 놓치게 된다.
+                .saveState(false)
                 .build();
     }
 
+    /**
+     * batchInputJdbcCursorItemReader와 같은 조건으로 읽되, 엔티티 대신 BatchInputRow(projection)로 매핑한다.
+     * {@code batch.processing.row-model=RECORD}일 때 dataProcessingStep이 사용한다.
+     */
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<BatchInputRow> batchInputRowCursorReader() {
+        return cursorReaderSettings.apply(new JdbcCursorItemReaderBuilder<BatchInputRow>())
+                .name("batchInputRowCursorReader")
+                .dataSource(dataSource)
+                .sql("SELECT " + IndexedBatchInputRowMapper.COLUMNS + " FROM batch_input WHERE processed = ? ORDER BY id")
+                .rowMapper(new IndexedBatchInputRowMapper())
+                .preparedStatementSetter(processedFalseSetter)
+                .saveState(false)
+                .build();
+    }
+
+    /**
+     * 멀티스레드 dataProcessingStep용 Reader.
+     * 커서 하나를 생산자 스레드가 읽어 버퍼에 채우고, 청크 스레드들이 나눠 가져간다.
+     * 재시작 시에는 저장된 체크포인트(커밋되지 않은 가장 작은 id)부터 processed = false인 행을 다시 읽는다.
+     */
+    @Bean
+    @StepScope
+    public PrefetchingItemStreamReader<BatchInput> batchInputPrefetchingReader(
+            @Value("${batch.processing.step.prefetch-buffer-size:1000}") int bufferSize) {
+        return new PrefetchingItemStreamReader<>(
+                "batchInputPrefetchingReader",
+                startId -> cursorReaderSettings.apply(new JdbcCursorItemReaderBuilder<BatchInput>())
+                        .name("batchInputPrefetchingCursor")
+                        .dataSource(dataSource)
+                        .sql("SELECT id, input_name, data, processed FROM batch_input WHERE processed = ? AND id >= ? ORDER BY id")
+                        .rowMapper(new BatchInputRowMapper())
+                        .preparedStatementSetter(new ArgumentPreparedStatementSetter(new Object[] { false, startId }))
+                        .saveState(false)
+                        .build(),
+                BatchInput::getId,
+                bufferSize);
+    }
+
     /**
      * RowMapper가 resultSet 로우를 도메인 객체로 매핑하는 반면,
      * PreparedStatementSetter는 파라미터를 SQL문에 매핑하는 역할을 한다.
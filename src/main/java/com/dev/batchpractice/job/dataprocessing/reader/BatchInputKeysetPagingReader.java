@@ -0,0 +1,49 @@
+package com.dev.batchpractice.job.dataprocessing.reader;
+
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.domain.service.BatchInputService;
+import com.dev.batchpractice.job.dataprocessing.reader.mapper.BatchInputRowMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JpaPagingItemReader(OFFSET 기반)를 대체하는 keyset 페이징 Reader 설정.
+ * 같은 KeysetPagingItemReader에 JDBC RowMapper 조회 / JPA 조회를 각각 끼워서 제공한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchInputKeysetPagingReader {
+
+    private static final String KEYSET_SQL =
+            "SELECT id, input_name, data, processed FROM batch_input WHERE processed = false AND id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchInputService batchInputService;
+
+    @Bean
+    @StepScope
+    public KeysetPagingItemReader<BatchInput> batchInputKeysetJdbcReader(
+            @Value("#{jobParameters['chunkSize'] ?: ${batch.chunk.size:100}}") int pageSize) {
+        BatchInputRowMapper rowMapper = new BatchInputRowMapper();
+        return new KeysetPagingItemReader<>(
+                "batchInputKeysetJdbcReader",
+                (lastId, limit) -> jdbcTemplate.query(KEYSET_SQL, rowMapper, lastId, limit),
+                BatchInput::getId,
+                pageSize);
+    }
+
+    @Bean
+    @StepScope
+    public KeysetPagingItemReader<BatchInput> batchInputKeysetJpaReader(
+            @Value("#{jobParameters['chunkSize'] ?: ${batch.chunk.size:100}}") int pageSize) {
+        return new KeysetPagingItemReader<>(
+                "batchInputKeysetJpaReader",
+                batchInputService::findUnprocessedInputsAfter,
+                BatchInput::getId,
+                pageSize);
+    }
+}
@@ -0,0 +1,43 @@
+package com.dev.batchpractice.job.dataprocessing.reader;
+
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.job.dataprocessing.reader.mapper.BatchInputRowMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.infrastructure.item.database.JdbcCursorItemReader;
+import org.springframework.batch.infrastructure.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+@RequiredArgsConstructor
+public class BatchInputPartitionReader {
+
+    private final DataSource dataSource;
+    private final CursorReaderSettings cursorReaderSettings;
+
+    /**
+     * 파티션 하나가 담당하는 id 구간(minId ~ maxId)만 읽는 커서 Reader.
+     * minId / maxId는 BatchInputIdRangePartitioner가 만든 파티션별 StepExecutionContext에서 늦은 바인딩된다.
+     * 파티션(= Worker StepExecution)마다 별도의 인스턴스가 생성되므로 커서 상태가 공유되지 않는다.
+     * 처리 완료 여부는 processed 컬럼으로 관리하므로 재시작 시에는 구간 + processed = false 조건만으로 이어서 읽는다 (saveState=false).
+     */
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<BatchInput> batchInputPartitionReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return cursorReaderSettings.apply(new JdbcCursorItemReaderBuilder<BatchInput>())
+                .name("batchInputPartitionReader")
+                .dataSource(dataSource)
+                .sql("SELECT id, input_name, data, processed FROM batch_input WHERE processed = ? AND id BETWEEN ? AND ? ORDER BY id")
+                .rowMapper(new BatchInputRowMapper())
+                .preparedStatementSetter(new ArgumentPreparedStatementSetter(new Object[] { false, minId, maxId }))
+                .saveState(false)
+                .build();
+    }
+}
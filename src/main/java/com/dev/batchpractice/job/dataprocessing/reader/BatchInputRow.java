@@ -0,0 +1,9 @@
+package com.dev.batchpractice.job.dataprocessing.reader;
+
+/**
+ * dataProcessingStep이 실제로 쓰는 batch_input 컬럼만 담은 읽기 전용 projection.
+ * <p>
+ * JPA 엔티티(BatchInput)와 달리 primitive 필드라 행마다 Long / Boolean 박싱이 없고, 영속성 관련 필드도 없다.
+ */
+public record BatchInputRow(long id, String inputName, String data, boolean processed) {
+}
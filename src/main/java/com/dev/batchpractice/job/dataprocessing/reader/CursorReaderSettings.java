@@ -0,0 +1,79 @@
+package com.dev.batchpractice.job.dataprocessing.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.infrastructure.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * batch_input 커서 Reader들의 공통 JDBC 설정.
+ * <ul>
+ *     <li>fetch-size: 드라이버가 한 번에 가져오는 행 수 (0이면 드라이버 기본값)</li>
+ *     <li>verify-cursor-position: 행마다 RowMapper가 커서를 움직이지 않았는지 확인. 매퍼를 믿을 수 있으면 꺼서 행당 호출을 줄인다</li>
+ *     <li>드라이버별 스트리밍
+ *         <ul>
+ *             <li>PostgreSQL: autocommit이 켜져 있으면 fetchSize를 무시하고 전체 결과를 메모리에 올린다 → 커서 커넥션의 autocommit을 끈다</li>
+ *             <li>MySQL: fetchSize = Integer.MIN_VALUE일 때만 행 단위로 스트리밍한다</li>
+ *         </ul>
+ *     </li>
+ * </ul>
+ * 데이터베이스 종류는 처음 Reader를 만들 때 DataSource 메타데이터로 한 번만 확인한다.
+ */
+@Slf4j
+@Component
+public class CursorReaderSettings {
+
+    private final DataSource dataSource;
+    private final int fetchSize;
+    private final boolean verifyCursorPosition;
+    private final boolean driverStreaming;
+
+    private volatile String databaseProductName;
+
+    public CursorReaderSettings(DataSource dataSource,
+                                @Value("${batch.processing.cursor.fetch-size:1000}") int fetchSize,
+                                @Value("${batch.processing.cursor.verify-cursor-position:true}") boolean verifyCursorPosition,
+                                @Value("${batch.processing.cursor.driver-streaming:true}") boolean driverStreaming) {
+        this.dataSource = dataSource;
+        this.fetchSize = fetchSize;
+        this.verifyCursorPosition = verifyCursorPosition;
+        this.driverStreaming = driverStreaming;
+    }
+
+    public <T> JdbcCursorItemReaderBuilder<T> apply(JdbcCursorItemReaderBuilder<T> builder) {
+        builder.fetchSize(fetchSize)
+                .verifyCursorPosition(verifyCursorPosition);
+        if (!driverStreaming) {
+            return builder;
+        }
+
+        String product = databaseProductName();
+        if ("PostgreSQL".equalsIgnoreCase(product)) {
+            builder.connectionAutoCommit(false);
+        } else if ("MySQL".equalsIgnoreCase(product)) {
+            builder.fetchSize(Integer.MIN_VALUE);
+        }
+        return builder;
+    }
+
+    private String databaseProductName() {
+        String product = databaseProductName;
+        if (product == null) {
+            try {
+                product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            } catch (MetaDataAccessException e) {
+                log.warn("Could not detect database product for cursor streaming settings: {}", e.getMessage());
+                product = "unknown";
+            }
+            databaseProductName = product;
+            log.info("Cursor reader settings: database={}, fetchSize={}, verifyCursorPosition={}, driverStreaming={}",
+                    product, fetchSize, verifyCursorPosition, driverStreaming);
+        }
+        return product;
+    }
+}
@@ -0,0 +1,104 @@
+package com.dev.batchpractice.job.dataprocessing.reader;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * OFFSET 대신 "마지막으로 읽은 id 다음부터" 조회하는 keyset(seek) 페이징 Reader.
+ * <p>
+ * {@code WHERE processed = false AND id > :lastId ORDER BY id LIMIT :pageSize}처럼 인덱스를 바로 탐색하므로
+ * 테이블이 커져도 페이지 조회 비용이 일정하고, 실행 도중 행이 processed = true로 바뀌어도
+ * OFFSET이 밀리면서 행을 건너뛰는 문제가 없다.
+ * <p>
+ * 재시작 지점은 read.count가 아니라 마지막으로 반환한 id({@value #LAST_ID_KEY})를 StepExecutionContext에 저장한다.
+ * update()는 청크 커밋 시점에 호출되므로, 저장되는 값은 항상 커밋된 마지막 아이템의 id이다.
+ * <p>
+ * 실제 조회 방식(JDBC RowMapper / JPA)은 {@link KeysetPageQuery}로 주입한다. Thread-safe 하지 않다.
+ */
+public class KeysetPagingItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+    public static final String LAST_ID_KEY = "last.id";
+
+    private final KeysetPageQuery<T> pageQuery;
+    private final ToLongFunction<T> idExtractor;
+    private final int pageSize;
+
+    // IDENTITY id는 1부터 시작하므로 0이면 처음부터 읽는다
+    private long lastId = 0L;
+    private Iterator<T> currentPage = Collections.emptyIterator();
+    private boolean lastPage;
+
+    public KeysetPagingItemReader(String name, KeysetPageQuery<T> pageQuery, ToLongFunction<T> idExtractor, int pageSize) {
+        this.pageQuery = pageQuery;
+        this.idExtractor = idExtractor;
+        this.pageSize = pageSize;
+        setName(name);
+    }
+
+    @Override
+    protected T doRead() {
+        if (!currentPage.hasNext()) {
+            if (lastPage) {
+                return null;
+            }
+            List<T> page = pageQuery.fetchPage(lastId, pageSize);
+            lastPage = page.size() < pageSize;
+            currentPage = page.iterator();
+            if (!currentPage.hasNext()) {
+                return null;
+            }
+        }
+
+        T item = currentPage.next();
+        lastId = idExtractor.applyAsLong(item);
+        return item;
+    }
+
+    @Override
+    protected void doOpen() {
+        currentPage = Collections.emptyIterator();
+        lastPage = false;
+    }
+
+    @Override
+    protected void doClose() {
+        currentPage = Collections.emptyIterator();
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        super.open(executionContext);
+        if (isSaveState() && executionContext.containsKey(getExecutionContextKey(LAST_ID_KEY))) {
+            lastId = executionContext.getLong(getExecutionContextKey(LAST_ID_KEY));
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        super.update(executionContext);
+        if (isSaveState()) {
+            executionContext.putLong(getExecutionContextKey(LAST_ID_KEY), lastId);
+        }
+    }
+
+    /**
+     * 재시작 시 read.count만큼 앞에서부터 다시 읽어 버리는 기본 동작 대신 lastId 이후부터 바로 조회한다.
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) {
+    }
+
+    /**
+     * lastId 다음부터 최대 pageSize 건을 id 오름차순으로 조회한다.
+     */
+    @FunctionalInterface
+    public interface KeysetPageQuery<T> {
+        List<T> fetchPage(long lastId, int pageSize);
+    }
+}
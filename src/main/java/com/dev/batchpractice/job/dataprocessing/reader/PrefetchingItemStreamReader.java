@@ -0,0 +1,190 @@
+package com.dev.batchpractice.job.dataprocessing.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.listener.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+import org.springframework.batch.infrastructure.item.ItemStreamSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 멀티스레드 Step용 Reader 래퍼. 스레드 안전하지 않은 Reader(JdbcCursorItemReader 등)를
+ * 생산자 스레드 하나가 읽어서 버퍼에 채우고, 여러 청크 스레드가 버퍼에서 꺼내 간다.
+ * <ul>
+ *     <li>버퍼: LinkedTransferQueue(lock-free) + Semaphore(bufferSize)로 크기 제한.
+ *         소비자끼리는 물론 생산자와 소비자 사이에도 공유 락이 없다</li>
+ *     <li>delegate는 id 오름차순으로 읽어야 한다. 생산자만 delegate를 만지므로 delegate 자체는 스레드 안전할 필요가 없다</li>
+ *     <li>체크포인트: 아직 커밋되지 않은 id 중 가장 작은 값({@value #LOWEST_UNCOMMITTED_ID_KEY}).
+ *         생산자가 버퍼에 넣기 전에 미커밋 목록에 등록하고, 청크가 커밋되면(afterChunk) 그 청크에서 읽은 id를 지운다.
+ *         그보다 작은 id는 모두 커밋됐으므로 재시작 시 그 id부터 다시 읽으면 된다</li>
+ *     <li>등록을 꺼내 가는 쪽(read)에서 하면 버퍼에서 꺼낸 뒤 등록하기 전에 update()가 끼어들어
+ *         건네준 아이템을 건너뛴 체크포인트를 남길 수 있다. 버퍼에 넣기 전에 등록하므로 그런 틈이 없다</li>
+ * </ul>
+ * 롤백된 청크(afterChunkError)의 id는 미커밋으로 남겨 둔다. skip / 재시도로 다른 스레드에서 커밋되더라도
+ * 체크포인트가 그 id에 머무를 뿐이므로(보수적) 재시작 시 아이템을 놓치지 않는다.
+ * <p>
+ * 청크 하나의 read → write → afterChunk는 같은 스레드에서 실행되므로 청크별로 읽은 id는 ThreadLocal에 모은다.
+ * Step에 {@link ChunkListener}로도 등록해야 한다.
+ */
+@Slf4j
+public class PrefetchingItemStreamReader<T> extends ItemStreamSupport implements ItemStreamReader<T>, ChunkListener {
+
+    public static final String LOWEST_UNCOMMITTED_ID_KEY = "lowest.uncommitted.id";
+
+    private static final Object END = new Object();
+
+    private final String name;
+    private final LongFunction<ItemStreamReader<T>> readerFactory;
+    private final ToLongFunction<T> idExtractor;
+    private final int bufferSize;
+
+    private final LinkedTransferQueue<Object> buffer = new LinkedTransferQueue<>();
+    private final ConcurrentSkipListSet<Long> uncommittedIds = new ConcurrentSkipListSet<>();
+    private final ThreadLocal<List<Long>> idsInChunk = ThreadLocal.withInitial(ArrayList::new);
+    private final AtomicLong lastPrefetchedId = new AtomicLong();
+    private final AtomicLong prefetchedCount = new AtomicLong();
+    private final AtomicLong emptyBufferCount = new AtomicLong();
+
+    private Semaphore capacity;
+    private ItemStreamReader<T> delegate;
+    private Thread producer;
+    private volatile Throwable producerFailure;
+    private volatile boolean closing;
+
+    /**
+     * @param name          ExecutionContext 키 접두사
+     * @param readerFactory 체크포인트 id(이상)부터 읽는 delegate를 만든다. 처음 실행이면 0
+     * @param idExtractor   아이템의 id (delegate의 정렬 키)
+     * @param bufferSize    미리 읽어 둘 최대 건수
+     */
+    public PrefetchingItemStreamReader(String name, LongFunction<ItemStreamReader<T>> readerFactory, ToLongFunction<T> idExtractor, int bufferSize) {
+        this.name = name;
+        this.readerFactory = readerFactory;
+        this.idExtractor = idExtractor;
+        this.bufferSize = bufferSize;
+        setName(name);
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        long startId = executionContext.getLong(getExecutionContextKey(LOWEST_UNCOMMITTED_ID_KEY), 0L);
+        lastPrefetchedId.set(startId - 1);
+        capacity = new Semaphore(bufferSize);
+        closing = false;
+        producerFailure = null;
+
+        delegate = readerFactory.apply(startId);
+        // delegate의 상태는 저장하지 않는다. 재시작 위치는 이 래퍼의 체크포인트가 결정한다
+        delegate.open(new ExecutionContext());
+
+        producer = Thread.ofVirtual().name("prefetch-" + name).start(this::prefetch);
+        log.info("[Prefetch] {} opened from id >= {} (bufferSize={})", name, startId, bufferSize);
+    }
+
+    private void prefetch() {
+        try {
+            T item;
+            while (!closing && (item = delegate.read()) != null) {
+                capacity.acquire();
+                long id = idExtractor.applyAsLong(item);
+                // 소비자가 꺼내 가기 전에 미커밋으로 등록한다 (offer → poll이 등록 이후임을 보장)
+                uncommittedIds.add(id);
+                lastPrefetchedId.set(id);
+                buffer.offer(item);
+                prefetchedCount.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            producerFailure = e;
+        } finally {
+            buffer.offer(END);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T read() throws Exception {
+        Object next = buffer.poll();
+        if (next == null) {
+            emptyBufferCount.incrementAndGet();
+            next = buffer.take();
+        }
+        if (next == END) {
+            // 다른 소비자도 끝을 볼 수 있도록 되돌려 놓는다
+            buffer.offer(END);
+            Throwable failure = producerFailure;
+            if (failure instanceof Exception exception) {
+                throw exception;
+            }
+            if (failure != null) {
+                throw new ItemStreamException("Prefetching reader failed", failure);
+            }
+            return null;
+        }
+        capacity.release();
+
+        T item = (T) next;
+        idsInChunk.get().add(idExtractor.applyAsLong(item));
+        return item;
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        List<Long> ids = idsInChunk.get();
+        ids.forEach(uncommittedIds::remove);
+        idsInChunk.remove();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        idsInChunk.remove();
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(getExecutionContextKey(LOWEST_UNCOMMITTED_ID_KEY), lowestUncommittedId());
+    }
+
+    /**
+     * 이 값보다 작은 id는 모두 커밋됐다. 버퍼 안의 아이템도 미커밋에 포함되므로, 비어 있으면 생산자가 읽은 마지막 id 다음이다.
+     * 생산자는 미커밋 등록 → lastPrefetchedId 순서로 쓰므로 여기서는 반대 순서로 읽는다.
+     */
+    long lowestUncommittedId() {
+        long lastPrefetched = lastPrefetchedId.get();
+        Long lowest = uncommittedIds.ceiling(Long.MIN_VALUE);
+        return lowest != null ? lowest : lastPrefetched + 1;
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        closing = true;
+        if (producer != null) {
+            // interrupt 대신 permit을 풀어서 깨운다 (JDBC read 도중 interrupt로 커넥션이 닫히지 않도록)
+            capacity.release(bufferSize + 1);
+            try {
+                producer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            producer = null;
+        }
+        if (delegate != null) {
+            delegate.close();
+            delegate = null;
+        }
+        buffer.clear();
+        log.info("[Prefetch] {} closed: prefetched={}, emptyBufferWaits={}, uncommitted={}, checkpoint={}",
+                name, prefetchedCount.get(), emptyBufferCount.get(), uncommittedIds.size(), lowestUncommittedId());
+    }
+}
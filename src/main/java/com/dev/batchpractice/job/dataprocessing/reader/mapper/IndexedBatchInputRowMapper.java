@@ -0,0 +1,23 @@
+package com.dev.batchpractice.job.dataprocessing.reader.mapper;
+
+import com.dev.batchpractice.job.dataprocessing.reader.BatchInputRow;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ResultSet → BatchInputRow 매퍼. 컬럼을 이름 대신 인덱스로 읽는다.
+ * <p>
+ * 이름 조회(findColumn)는 드라이버에 따라 행마다 대소문자 무시 비교 / Map 조회를 하므로 수백만 행에서는 무시할 수 없다.
+ * 대신 SELECT 절의 컬럼 순서가 {@link #COLUMNS}와 같아야 한다.
+ */
+public class IndexedBatchInputRowMapper implements RowMapper<BatchInputRow> {
+
+    public static final String COLUMNS = "id, input_name, data, processed";
+
+    @Override
+    public BatchInputRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new BatchInputRow(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getBoolean(4));
+    }
+}
@@ -0,0 +1,60 @@
+package com.dev.batchpractice.job.dataprocessing.writer;
+
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ItemWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * AsyncApiCallItemProcessor가 반환한 Future를 청크(입력) 순서대로 풀어서 delegate Writer에 넘긴다.
+ * <p>
+ * 실패한 아이템은 하나씩 로그로 남긴 뒤, 모든 실패를 suppressed로 담은 예외를 던져 청크를 롤백한다.
+ * 첫 실패 이후 아직 끝나지 않은 Future는 기다리지 않고 취소한다 (롤백되면 어차피 다시 처리되므로 외부 API 호출만 중복된다).
+ * null 결과(필터링된 아이템)는 저장 대상에서 제외한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AsyncBatchOutputWriter implements ItemWriter<Future<BatchOutput>> {
+
+	private final ItemWriter<BatchOutput> delegate;
+
+	@Override
+	public void write(Chunk<? extends Future<BatchOutput>> chunk) throws Exception {
+		List<BatchOutput> outputs = new ArrayList<>(chunk.size());
+		List<Throwable> failures = new ArrayList<>();
+		int cancelled = 0;
+
+		for (Future<BatchOutput> future : chunk) {
+			// 이미 끝난 Future는 cancel이 false를 돌려주므로 결과(실패 여부)를 그대로 확인한다
+			if (!failures.isEmpty() && future.cancel(true)) {
+				cancelled++;
+				continue;
+			}
+			try {
+				BatchOutput output = future.get();
+				if (output != null) {
+					outputs.add(output);
+				}
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				failures.add(cause);
+				log.error("Async item processing failed: {}", cause.getMessage(), cause);
+			}
+		}
+
+		if (!failures.isEmpty()) {
+			IllegalStateException exception = new IllegalStateException(
+					failures.size() + " of " + chunk.size() + " items failed in async processing, " + cancelled + " cancelled");
+			failures.forEach(exception::addSuppressed);
+			throw exception;
+		}
+
+		delegate.write(new Chunk<>(outputs));
+	}
+}
@@ -0,0 +1,30 @@
+package com.dev.batchpractice.job.dataprocessing.writer;
+
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.infrastructure.item.support.CompositeItemWriter;
+import org.springframework.batch.infrastructure.item.support.builder.CompositeItemWriterBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class BatchOutputCompositeWriter {
+
+	private final BatchOutputWriter batchOutputWriter;
+	private final MarkProcessedWriter markProcessedWriter;
+
+	/**
+	 * batch_output insert → batch_input.processed 갱신 순서로 실행하는 CompositeItemWriter.
+	 * 두 Writer 모두 청크 트랜잭션에 바인딩된 커넥션을 사용하므로 하나의 트랜잭션으로 커밋/롤백된다.
+	 * 이미 처리된 입력은 다음 실행의 Reader(processed = false 조건)에서 제외된다.
+	 */
+	@Bean
+	public CompositeItemWriter<BatchOutput> batchOutputCompositeWriter() {
+		return new CompositeItemWriterBuilder<BatchOutput>()
+				.delegates(List.of(batchOutputWriter, markProcessedWriter))
+				.build();
+	}
+}
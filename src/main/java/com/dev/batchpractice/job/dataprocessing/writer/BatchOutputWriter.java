@@ -4,14 +4,57 @@ import com.dev.batchpractice.domain.entity.BatchOutput;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 청크 단위로 batch_output에 JDBC batch insert를 수행하는 Writer.
+ * <p>
+ * BatchOutput은 {@code GenerationType.IDENTITY}라서 {@code BatchOutputRepository.saveAll}을 쓰면
+ * Hibernate가 insert마다 생성된 id를 받아와야 하므로 JDBC batching이 꺼지고 한 건씩 insert된다.
+ * 여기서는 JdbcTemplate으로 PreparedStatement 하나를 재사용하면서
+ * {@code batch.writer.jdbc-batch-size} 건씩 addBatch / executeBatch 한다.
+ * <p>
+ * 청크 트랜잭션(JpaTransactionManager)에 바인딩된 커넥션을 그대로 사용하므로 청크 커밋/롤백과 함께 움직인다.
+ */
 @Slf4j
 @Component
 public class BatchOutputWriter implements ItemWriter<BatchOutput> {
 
+	private static final String INSERT_SQL = """
+			INSERT INTO batch_output (input_id, name, original_data, processed_data, api_response, processed_at)
+			VALUES (?, ?, ?, ?, ?, ?)
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int batchSize;
+
+	public BatchOutputWriter(JdbcTemplate jdbcTemplate,
+							 @Value("${batch.writer.jdbc-batch-size:100}") int batchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.batchSize = batchSize;
+	}
+
 	@Override
 	public void write(Chunk<? extends BatchOutput> chunk) {
-		log.info("Writing {} BatchOutput items", chunk.getItems().size());
+		List<? extends BatchOutput> items = chunk.getItems();
+		if (items.isEmpty()) {
+			return;
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, items, batchSize, (ps, output) -> {
+			ps.setLong(1, output.getInputId());
+			ps.setString(2, output.getName());
+			ps.setString(3, output.getOriginalData());
+			ps.setString(4, output.getProcessedData());
+			ps.setString(5, output.getApiResponse());
+			ps.setTimestamp(6, Timestamp.valueOf(output.getProcessedAt()));
+		});
+
+		log.info("Wrote {} BatchOutput items (jdbcBatchSize={})", items.size(), batchSize);
 	}
 }
@@ -0,0 +1,46 @@
+package com.dev.batchpractice.job.dataprocessing.writer;
+
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 청크에 포함된 입력 id들의 batch_input.processed를 true로 바꾸는 Writer.
+ * <p>
+ * 엔티티마다 UPDATE를 날리지 않고 {@code UPDATE ... WHERE id IN (...)} 한 번으로 처리한다 (set-based).
+ * IN 절 파라미터 수가 너무 커지지 않도록 {@value #IN_CLAUSE_LIMIT}개 단위로 나눠서 실행한다.
+ * <p>
+ * CompositeItemWriter로 BatchOutputWriter 뒤에 붙여서, batch_output insert와 같은 청크 트랜잭션 안에서 커밋된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarkProcessedWriter implements ItemWriter<BatchOutput> {
+
+	private static final int IN_CLAUSE_LIMIT = 1000;
+	private static final String UPDATE_SQL = "UPDATE batch_input SET processed = true WHERE id IN (:ids) AND processed = false";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	@Override
+	public void write(Chunk<? extends BatchOutput> chunk) {
+		List<Long> inputIds = chunk.getItems().stream()
+				.map(BatchOutput::getInputId)
+				.toList();
+
+		int updated = 0;
+		for (int from = 0; from < inputIds.size(); from += IN_CLAUSE_LIMIT) {
+			List<Long> ids = inputIds.subList(from, Math.min(from + IN_CLAUSE_LIMIT, inputIds.size()));
+			updated += namedParameterJdbcTemplate.update(UPDATE_SQL, Map.of("ids", ids));
+		}
+
+		log.info("Marked {} BatchInput rows as processed", updated);
+	}
+}
@@ -0,0 +1,107 @@
+package com.dev.batchpractice.job.delta;
+
+import com.dev.batchpractice.common.listener.BatchMetricsListener;
+import com.dev.batchpractice.common.listener.BatchPerformanceListener;
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import com.dev.batchpractice.domain.service.resilience.ExternalApiException;
+import com.dev.batchpractice.job.dataprocessing.chunk.AdaptiveChunkCompletionPolicy;
+import com.dev.batchpractice.job.dataprocessing.listener.DeadLetterSkipListener;
+import com.dev.batchpractice.job.dataprocessing.listener.ExternalApiThrottleListener;
+import com.dev.batchpractice.job.dataprocessing.processor.ApiCallItemProcessor;
+import com.dev.batchpractice.job.delta.listener.DeltaHighWaterMarkListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.parameters.CompositeJobParametersValidator;
+import org.springframework.batch.core.job.parameters.InvalidJobParametersException;
+import org.springframework.batch.core.job.parameters.JobParametersValidator;
+import org.springframework.batch.core.listener.ChunkListener;
+import org.springframework.batch.core.listener.ItemProcessListener;
+import org.springframework.batch.core.listener.ItemReadListener;
+import org.springframework.batch.core.listener.ItemWriteListener;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.batch.core.listener.SkipListener;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.item.database.JdbcCursorItemReader;
+import org.springframework.batch.infrastructure.item.support.CompositeItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/**
+ * mode=DELTA 실행 경로. updated_at이 [startDate, endDate] 구간(및 high-water mark 이후)인 미처리 행만 처리한다.
+ * <pre>
+ * --job.name=deltaProcessingJob mode=DELTA name=jihyun startDate=20240101 endDate=20240131
+ * </pre>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class DeltaProcessingJobConfig {
+
+	public static final String HIGH_WATER_MARK_NAME = "deltaProcessingJob";
+
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final ApiCallItemProcessor apiCallItemProcessor;
+	private final CompositeItemWriter<BatchOutput> batchOutputCompositeWriter;
+	private final DeltaHighWaterMarkListener deltaHighWaterMarkListener;
+	private final BatchPerformanceListener batchPerformanceListener;
+	private final BatchMetricsListener batchMetricsListener;
+	private final ExternalApiThrottleListener externalApiThrottleListener;
+	private final DeadLetterSkipListener deadLetterSkipListener;
+
+	@Bean
+	public Job deltaProcessingJob(Step deltaProcessingStep,
+								  @Qualifier("parametersValidator") CompositeJobParametersValidator parametersValidator) {
+		JobParametersValidator deltaModeOnly = parameters -> {
+			if (!"DELTA".equalsIgnoreCase(parameters.getString("mode"))) {
+				throw new InvalidJobParametersException("deltaProcessingJob requires mode=DELTA");
+			}
+		};
+		CompositeJobParametersValidator validator = new CompositeJobParametersValidator();
+		validator.setValidators(List.of(parametersValidator, deltaModeOnly));
+
+		return new JobBuilder("deltaProcessingJob", jobRepository)
+				.validator(validator)
+				.start(deltaProcessingStep)
+				.listener(batchPerformanceListener)
+				.listener((JobExecutionListener) batchMetricsListener)
+				.listener(externalApiThrottleListener)
+				.build();
+	}
+
+	@Bean
+	public Step deltaProcessingStep(@Qualifier("batchInputDeltaReader") JdbcCursorItemReader<BatchInput> batchInputDeltaReader,
+									@Value("${batch.processing.skip-limit:100}") int skipLimit,
+									AdaptiveChunkCompletionPolicy dataProcessingChunkPolicy) {
+		return new StepBuilder("deltaProcessingStep", jobRepository)
+				.<BatchInput, BatchOutput>chunk(dataProcessingChunkPolicy, transactionManager)
+				.reader(batchInputDeltaReader)
+				.processor(apiCallItemProcessor)
+				.writer(batchOutputCompositeWriter)
+				.listener(batchPerformanceListener)
+				.listener((StepExecutionListener) deltaHighWaterMarkListener)
+				.listener((ItemReadListener<BatchInput>) deltaHighWaterMarkListener)
+				.listener((StepExecutionListener) batchMetricsListener)
+				.listener((ChunkListener) batchMetricsListener)
+				.listener((ItemReadListener<Object>) batchMetricsListener)
+				.listener((ItemProcessListener<Object, Object>) batchMetricsListener)
+				.listener((ItemWriteListener<Object>) batchMetricsListener)
+				.listener((ChunkListener) dataProcessingChunkPolicy)
+				// dataProcessingStep과 같이 재시도까지 실패한 외부 API 오류는 해당 아이템만 skip 후 batch_dead_letter에 기록
+				.faultTolerant()
+				.skip(ExternalApiException.class)
+				.skipLimit(skipLimit)
+				.noRollback(ExternalApiException.class)
+				.listener((SkipListener<BatchInput, BatchOutput>) deadLetterSkipListener)
+				.build();
+	}
+}
@@ -0,0 +1,34 @@
+package com.dev.batchpractice.job.delta;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+/**
+ * DELTA 모드에서 읽을 updated_at 구간 [from, to).
+ * <p>
+ * startDate / endDate(yyyyMMdd)는 날짜 단위이며 endDate 당일까지 포함한다.
+ * 저장된 high-water mark가 startDate보다 뒤라면 high-water mark부터 읽는다 (이미 처리한 구간은 건너뜀).
+ */
+public record DeltaWindow(LocalDateTime from, LocalDateTime to) {
+
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+	public DeltaWindow {
+		if (from.isAfter(to)) {
+			throw new IllegalArgumentException("Invalid delta window: [" + from + ", " + to + ")");
+		}
+	}
+
+	public static DeltaWindow of(String startDate, String endDate, Optional<LocalDateTime> highWaterMark, boolean ignoreHighWaterMark) {
+		LocalDateTime from = LocalDate.parse(startDate, DATE_FORMAT).atStartOfDay();
+		LocalDateTime to = LocalDate.parse(endDate, DATE_FORMAT).plusDays(1).atStartOfDay();
+
+		if (!ignoreHighWaterMark && highWaterMark.isPresent() && highWaterMark.get().isAfter(from)) {
+			// high-water mark가 endDate 이후면 읽을 구간이 없음 (from == to)
+			from = highWaterMark.get().isBefore(to) ? highWaterMark.get() : to;
+		}
+		return new DeltaWindow(from, to);
+	}
+}
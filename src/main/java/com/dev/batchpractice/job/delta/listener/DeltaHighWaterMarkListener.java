@@ -0,0 +1,51 @@
+package com.dev.batchpractice.job.delta.listener;
+
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.domain.service.HighWaterMarkService;
+import com.dev.batchpractice.job.delta.DeltaProcessingJobConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.listener.ItemReadListener;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 읽은 행의 최대 updated_at을 기록해 두었다가, Step이 COMPLETED로 끝나면 high-water mark를 그 시각으로 옮긴다.
+ * <p>
+ * 실패한 실행은 high-water mark를 옮기지 않는다. 다음 실행이 같은 구간을 다시 읽더라도
+ * 이미 처리된 행은 processed = true라서 Reader 조건에서 빠진다.
+ * Reader 하한이 {@code updated_at >= watermark}라서 같은 시각에 늦게 커밋된 행도 놓치지 않는다.
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class DeltaHighWaterMarkListener implements StepExecutionListener, ItemReadListener<BatchInput> {
+
+	private final HighWaterMarkService highWaterMarkService;
+
+	private LocalDateTime maxUpdatedAt;
+
+	@Override
+	public void afterRead(BatchInput item) {
+		if (maxUpdatedAt == null || item.getUpdatedAt().isAfter(maxUpdatedAt)) {
+			maxUpdatedAt = item.getUpdatedAt();
+		}
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		if (stepExecution.getStatus() != BatchStatus.COMPLETED) {
+			log.info("[Delta] step {} ended with {}, high-water mark not advanced", stepExecution.getStepName(), stepExecution.getStatus());
+		} else if (maxUpdatedAt != null) {
+			highWaterMarkService.advance(DeltaProcessingJobConfig.HIGH_WATER_MARK_NAME, maxUpdatedAt);
+		}
+		return stepExecution.getExitStatus();
+	}
+}
@@ -0,0 +1,72 @@
+package com.dev.batchpractice.job.delta.reader;
+
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.domain.service.HighWaterMarkService;
+import com.dev.batchpractice.job.delta.DeltaProcessingJobConfig;
+import com.dev.batchpractice.job.dataprocessing.reader.CursorReaderSettings;
+import com.dev.batchpractice.job.delta.DeltaWindow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.infrastructure.item.database.JdbcCursorItemReader;
+import org.springframework.batch.infrastructure.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+
+/**
+ * DELTA 모드 Reader. updated_at이 [from, to) 구간인 미처리 행만 조회한다.
+ * (updated_at, id) 인덱스로 구간만 탐색하므로 테이블 전체를 스캔하지 않는다.
+ * fetch size / 드라이버 스트리밍 / 커서 위치 검증은 다른 커서 Reader와 같이 {@link CursorReaderSettings}를 따른다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchInputDeltaReader {
+
+    private static final String DELTA_SQL = """
+            SELECT id, input_name, data, processed, updated_at
+            FROM batch_input
+            WHERE updated_at >= ? AND updated_at < ? AND processed = false
+            ORDER BY updated_at, id
+            """;
+
+    private final DataSource dataSource;
+    private final HighWaterMarkService highWaterMarkService;
+    private final CursorReaderSettings cursorReaderSettings;
+
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<BatchInput> batchInputDeltaReader(
+            @Value("#{jobParameters['startDate']}") String startDate,
+            @Value("#{jobParameters['endDate']}") String endDate,
+            @Value("#{jobParameters['ignoreHighWaterMark'] ?: false}") boolean ignoreHighWaterMark) {
+        DeltaWindow window = DeltaWindow.of(startDate, endDate,
+                highWaterMarkService.find(DeltaProcessingJobConfig.HIGH_WATER_MARK_NAME), ignoreHighWaterMark);
+        log.info("[Delta] reading batch_input updated_at in [{}, {})", window.from(), window.to());
+
+        return cursorReaderSettings.apply(new JdbcCursorItemReaderBuilder<BatchInput>())
+                .name("batchInputDeltaReader")
+                .dataSource(dataSource)
+                .sql(DELTA_SQL)
+                .queryArguments(Timestamp.valueOf(window.from()), Timestamp.valueOf(window.to()))
+                .rowMapper(deltaRowMapper())
+                // dataProcessingStep과 같이 processed 플래그가 재시작 기준이므로 read.count는 저장하지 않는다
+                .saveState(false)
+                .build();
+    }
+
+    private static RowMapper<BatchInput> deltaRowMapper() {
+        return (rs, rowNum) -> BatchInput.builder()
+                .id(rs.getLong("id"))
+                .inputName(rs.getString("input_name"))
+                .data(rs.getString("data"))
+                .processed(rs.getBoolean("processed"))
+                .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                .build();
+    }
+}
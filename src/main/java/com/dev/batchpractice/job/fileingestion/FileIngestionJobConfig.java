@@ -0,0 +1,82 @@
+package com.dev.batchpractice.job.fileingestion;
+
+import com.dev.batchpractice.common.listener.BatchMetricsListener;
+import com.dev.batchpractice.common.listener.BatchPerformanceListener;
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.job.dataprocessing.listener.ExternalApiThrottleListener;
+import com.dev.batchpractice.job.fileingestion.reader.MappedDelimitedFileItemReader;
+import com.dev.batchpractice.job.fileingestion.writer.BatchInputInsertWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.parameters.CompositeJobParametersValidator;
+import org.springframework.batch.core.job.parameters.InvalidJobParametersException;
+import org.springframework.batch.core.job.parameters.JobParametersValidator;
+import org.springframework.batch.core.listener.ChunkListener;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/**
+ * mode=FILE 실행 경로.
+ * <p>
+ * fileIngestionStep(파일 → batch_input) 후 dataProcessingJob과 같은 dataProcessingStep으로 이어서 처리한다.
+ * <pre>
+ * --job.name=fileIngestionJob mode=FILE name=jihyun fileName=/data/batch_input.csv
+ * </pre>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class FileIngestionJobConfig {
+
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final BatchInputInsertWriter batchInputInsertWriter;
+	private final BatchPerformanceListener batchPerformanceListener;
+	private final BatchMetricsListener batchMetricsListener;
+	private final ExternalApiThrottleListener externalApiThrottleListener;
+
+	@Bean
+	public Job fileIngestionJob(Step fileIngestionStep, Step dataProcessingStep,
+								@Qualifier("parametersValidator") CompositeJobParametersValidator parametersValidator) {
+		JobParametersValidator fileModeOnly = parameters -> {
+			if (!"FILE".equalsIgnoreCase(parameters.getString("mode"))) {
+				throw new InvalidJobParametersException("fileIngestionJob requires mode=FILE");
+			}
+		};
+		CompositeJobParametersValidator validator = new CompositeJobParametersValidator();
+		validator.setValidators(List.of(parametersValidator, fileModeOnly));
+
+		return new JobBuilder("fileIngestionJob", jobRepository)
+				.validator(validator)
+				.start(fileIngestionStep)
+				.next(dataProcessingStep)
+				.listener(batchPerformanceListener)
+				.listener((JobExecutionListener) batchMetricsListener)
+				.listener(externalApiThrottleListener)
+				.build();
+	}
+
+	@Bean
+	public Step fileIngestionStep(@Qualifier("batchInputMappedFileReader") MappedDelimitedFileItemReader<BatchInput> batchInputMappedFileReader,
+								  @Value("${batch.file-ingestion.chunk-size:1000}") int chunkSize) {
+		return new StepBuilder("fileIngestionStep", jobRepository)
+				.<BatchInput, BatchInput>chunk(chunkSize)
+				.transactionManager(transactionManager)
+				.reader(batchInputMappedFileReader)
+				.writer(batchInputInsertWriter)
+				.listener(batchPerformanceListener)
+				.listener((StepExecutionListener) batchMetricsListener)
+				.listener((ChunkListener) batchMetricsListener)
+				.build();
+	}
+}
@@ -0,0 +1,44 @@
+package com.dev.batchpractice.job.fileingestion.reader;
+
+import com.dev.batchpractice.domain.entity.BatchInput;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * fileName 파라미터로 받은 파일을 BatchInput으로 읽는 Reader 설정.
+ * <p>
+ * 파일 형식: {@code inputName,data,inputStatus} (첫 줄 헤더는 batch.file-ingestion.lines-to-skip 만큼 건너뜀)
+ */
+@Component
+public class BatchInputFileReader {
+
+    private static final int INPUT_NAME = 0;
+    private static final int DATA = 1;
+    private static final int INPUT_STATUS = 2;
+
+    @Bean
+    @StepScope
+    public MappedDelimitedFileItemReader<BatchInput> batchInputMappedFileReader(
+            @Value("#{jobParameters['fileName']}") String fileName,
+            @Value("#{jobParameters['delimiter'] ?: '${batch.file-ingestion.delimiter:,}'}") String delimiter,
+            @Value("${batch.file-ingestion.lines-to-skip:1}") int linesToSkip) {
+        if (delimiter.length() != 1) {
+            throw new IllegalArgumentException("delimiter must be a single character: " + delimiter);
+        }
+        return new MappedDelimitedFileItemReader<>(
+                "batchInputMappedFileReader",
+                Path.of(fileName),
+                delimiter.charAt(0),
+                linesToSkip,
+                line -> BatchInput.builder()
+                        .inputName(line.getString(INPUT_NAME))
+                        .data(line.getString(DATA))
+                        .inputStatus(line.getInt(INPUT_STATUS))
+                        .processed(false)
+                        .build());
+    }
+}
@@ -0,0 +1,144 @@
+package com.dev.batchpractice.job.fileingestion.reader;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 매핑된 파일 안의 한 줄을 가리키는 뷰.
+ * <p>
+ * 줄을 String으로 만들지 않고 필드별 시작/끝 byte 위치만 기록해두고,
+ * 매퍼가 필요한 필드만 {@link #getString(int)} / {@link #getLong(int)} 등으로 꺼내 쓴다.
+ * 숫자/boolean 필드는 byte를 직접 파싱하므로 String이 생기지 않는다.
+ * <p>
+ * Reader가 인스턴스 하나를 줄마다 재사용하므로 매퍼 밖으로 참조를 넘기면 안 된다.
+ * 따옴표(quote)로 감싼 필드는 지원하지 않는다.
+ */
+public final class DelimitedLine {
+
+	private final MemorySegment segment;
+	private final byte delimiter;
+
+	private long[] fieldStarts = new long[8];
+	private long[] fieldEnds = new long[8];
+	private int fieldCount;
+	private long lineStart;
+	private long lineEnd;
+	private long lineNumber;
+	private byte[] scratch = new byte[256];
+
+	DelimitedLine(MemorySegment segment, byte delimiter) {
+		this.segment = segment;
+		this.delimiter = delimiter;
+	}
+
+	/**
+	 * [start, end) 구간을 구분자로 나눠서 필드 위치를 다시 잡는다.
+	 */
+	void reset(long start, long end, long lineNumber) {
+		this.lineNumber = lineNumber;
+		this.lineStart = start;
+		this.lineEnd = end;
+		fieldCount = 0;
+		long fieldStart = start;
+		for (long position = start; position < end; position++) {
+			if (segment.get(ValueLayout.JAVA_BYTE, position) == delimiter) {
+				addField(fieldStart, position);
+				fieldStart = position + 1;
+			}
+		}
+		addField(fieldStart, end);
+	}
+
+	private void addField(long start, long end) {
+		if (fieldCount == fieldStarts.length) {
+			fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+			fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+		}
+		fieldStarts[fieldCount] = start;
+		fieldEnds[fieldCount] = end;
+		fieldCount++;
+	}
+
+	public int fieldCount() {
+		return fieldCount;
+	}
+
+	public long lineNumber() {
+		return lineNumber;
+	}
+
+	public String getString(int index) {
+		checkIndex(index);
+		return decode(fieldStarts[index], fieldEnds[index]);
+	}
+
+	/**
+	 * 줄 전체 문자열. 오류 메시지 등 예외 상황에서만 사용한다.
+	 */
+	public String text() {
+		return decode(lineStart, lineEnd);
+	}
+
+	private String decode(long start, long end) {
+		int length = (int) (end - start);
+		if (length > scratch.length) {
+			scratch = new byte[Math.max(length, scratch.length * 2)];
+		}
+		MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, start, scratch, 0, length);
+		return new String(scratch, 0, length, StandardCharsets.UTF_8);
+	}
+
+	public long getLong(int index) {
+		checkIndex(index);
+		long position = fieldStarts[index];
+		long end = fieldEnds[index];
+		boolean negative = position < end && segment.get(ValueLayout.JAVA_BYTE, position) == '-';
+		if (negative) {
+			position++;
+		}
+		if (position == end) {
+			throw new NumberFormatException("Empty numeric field " + index + " at line " + lineNumber);
+		}
+
+		long value = 0;
+		for (; position < end; position++) {
+			int digit = segment.get(ValueLayout.JAVA_BYTE, position) - '0';
+			if (digit < 0 || digit > 9) {
+				throw new NumberFormatException("Invalid numeric field " + index + " at line " + lineNumber + ": " + getString(index));
+			}
+			value = Math.addExact(Math.multiplyExact(value, 10), digit);
+		}
+		return negative ? -value : value;
+	}
+
+	public int getInt(int index) {
+		return Math.toIntExact(getLong(index));
+	}
+
+	/**
+	 * "true" / "1"(대소문자 무시)이면 true, 그 외는 false.
+	 */
+	public boolean getBoolean(int index) {
+		checkIndex(index);
+		long start = fieldStarts[index];
+		long length = fieldEnds[index] - start;
+		if (length == 1) {
+			return segment.get(ValueLayout.JAVA_BYTE, start) == '1';
+		}
+		if (length != 4) {
+			return false;
+		}
+		return (segment.get(ValueLayout.JAVA_BYTE, start) | 0x20) == 't'
+				&& (segment.get(ValueLayout.JAVA_BYTE, start + 1) | 0x20) == 'r'
+				&& (segment.get(ValueLayout.JAVA_BYTE, start + 2) | 0x20) == 'u'
+				&& (segment.get(ValueLayout.JAVA_BYTE, start + 3) | 0x20) == 'e';
+	}
+
+	private void checkIndex(int index) {
+		if (index >= fieldCount) {
+			throw new IndexOutOfBoundsException("Line " + lineNumber + " has " + fieldCount + " fields, requested index " + index);
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.dev.batchpractice.job.housekeeping;
+
+/**
+ * 보관 기간이 지난 메타데이터 처리 방식 (metadataHousekeepingJob)
+ * <p>
+ * - DELETE : 삭제만 한다<br>
+ * - ARCHIVE : 같은 구조의 {@code <테이블>_ARCHIVE}에 복사한 뒤 삭제 (같은 트랜잭션)
+ */
+public enum HousekeepingMode {
+	DELETE,
+	ARCHIVE
+}
@@ -0,0 +1,54 @@
+package com.dev.batchpractice.job.housekeeping;
+
+import com.dev.batchpractice.common.listener.BatchPerformanceListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.parameters.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.support.transaction.ResourcelessTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@RequiredArgsConstructor
+public class MetadataHousekeepingJobConfig {
+
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final MetadataIndexTasklet metadataIndexTasklet;
+	private final MetadataPruneTasklet metadataPruneTasklet;
+	private final BatchPerformanceListener batchPerformanceListener;
+
+	// 매번 새 JobInstance로 실행 (run.id 증가)
+	@Bean
+	public Job metadataHousekeepingJob() {
+		return new JobBuilder("metadataHousekeepingJob", jobRepository)
+				.incrementer(new RunIdIncrementer())
+				.start(metadataIndexStep())
+				.next(metadataPruneStep())
+				.listener(batchPerformanceListener)
+				.build();
+	}
+
+	// DDL을 Step 트랜잭션 하나로 묶지 않는다: 문장마다 auto-commit이어야 하나가 실패해도(PostgreSQL) 나머지가 적용되고
+	// CREATE INDEX CONCURRENTLY(트랜잭션 안에서 실행 불가)도 쓸 수 있다
+	@Bean
+	public Step metadataIndexStep() {
+		return new StepBuilder("metadataIndexStep", jobRepository)
+				.tasklet(metadataIndexTasklet, new ResourcelessTransactionManager())
+				.build();
+	}
+
+	// MetadataPruneTasklet은 StepExecutionListener라 TaskletStep이 리스너로 자동 등록한다 (cutoff 계산 / 리포트)
+	@Bean
+	public Step metadataPruneStep() {
+		return new StepBuilder("metadataPruneStep", jobRepository)
+				.tasklet(metadataPruneTasklet, transactionManager)
+				.listener(batchPerformanceListener)
+				.build();
+	}
+}
@@ -0,0 +1,73 @@
+package com.dev.batchpractice.job.housekeeping;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기본 스키마(schema-*.sql)에 없는, JobRepository 조회 / 재시작 / 정리 쿼리가 쓰는 인덱스를 만든다.
+ * <p>
+ * 기본 스키마는 PK와 JOB_INST_UN(JOB_NAME, JOB_KEY)만 있고 FK 컬럼 인덱스가 없어서
+ * (PostgreSQL은 FK에 인덱스를 자동으로 만들지 않음) 실행 이력이 쌓일수록 마지막 실행 조회, Step 실행 조회가 풀 스캔이 된다.
+ * 조회 조건에 쓰이지 않는 컬럼에는 만들지 않는다. 예를 들어 VERSION은 청크 커밋마다 바뀌고 낙관적 락 갱신은 PK로 찾으므로
+ * 인덱스가 커밋마다 쓰기만 늘린다.
+ * {@code CREATE INDEX IF NOT EXISTS}라 여러 번 실행해도 된다 (H2, PostgreSQL). 지원하지 않는 DB에서는 경고만 남긴다.
+ * <p>
+ * Step은 ResourcelessTransactionManager로 실행하므로 문장마다 auto-commit(각자의 트랜잭션)이다.
+ * 하나가 실패해도(PostgreSQL은 실패한 트랜잭션의 이후 문장을 모두 거부) 나머지 인덱스는 만들어진다.
+ * {@code concurrently=true}면 {@code CREATE INDEX CONCURRENTLY}로 테이블 쓰기를 막지 않는다 (PostgreSQL 전용, 트랜잭션 밖에서만 가능).
+ */
+@Slf4j
+@Component
+public class MetadataIndexTasklet implements Tasklet {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final List<String> statements;
+	private final boolean enabled;
+
+	public MetadataIndexTasklet(JdbcTemplate jdbcTemplate,
+								@Value("${spring.batch.jdbc.table-prefix:BATCH_}") String tablePrefix,
+								@Value("${batch.housekeeping.create-indexes:true}") boolean enabled,
+								@Value("${batch.housekeeping.create-indexes-concurrently:false}") boolean concurrently) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.enabled = enabled;
+		String create = concurrently ? "CREATE INDEX CONCURRENTLY IF NOT EXISTS " : "CREATE INDEX IF NOT EXISTS ";
+		this.statements = List.of(
+				// getLastJobExecution / findJobExecutions, 정리 대상 조회
+				index(create, tablePrefix, "JOB_EXEC_INST_IDX", "JOB_EXECUTION", "JOB_INSTANCE_ID"),
+				index(create, tablePrefix, "JOB_EXEC_PARAMS_EXEC_IDX", "JOB_EXECUTION_PARAMS", "JOB_EXECUTION_ID"),
+				// getLastStepExecution / getStepExecutions (재시작)
+				index(create, tablePrefix, "STEP_EXEC_JOB_EXEC_IDX", "STEP_EXECUTION", "JOB_EXECUTION_ID, STEP_NAME"));
+	}
+
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+		if (!enabled) {
+			log.info("[Housekeeping] index creation disabled (batch.housekeeping.create-indexes=false)");
+			return RepeatStatus.FINISHED;
+		}
+		int applied = 0;
+		for (String statement : statements) {
+			try {
+				jdbcTemplate.execute(statement);
+				applied++;
+			} catch (DataAccessException e) {
+				log.warn("[Housekeeping] could not apply '{}': {}", statement, e.getMessage());
+			}
+		}
+		log.info("[Housekeeping] metadata indexes ensured: {}/{}", applied, statements.size());
+		return RepeatStatus.FINISHED;
+	}
+
+	private static String index(String create, String tablePrefix, String name, String table, String columns) {
+		return create + tablePrefix + name + " ON " + tablePrefix + table + " (" + columns + ")";
+	}
+}
@@ -0,0 +1,148 @@
+package com.dev.batchpractice.job.housekeeping;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 보관 기간(retentionDays)이 지난 JobInstance를 실행 이력과 함께 batchSize개씩 삭제(또는 보관 후 삭제)한다.
+ * <ul>
+ *     <li>대상: 모든 JobExecution의 CREATE_TIME이 cutoff 이전이고 실행 중(STARTING / STARTED / STOPPING)인 실행이 없는 JobInstance.
+ *         JobInstance 단위로 지우므로 재시작에 필요한 이력이 일부만 남는 경우가 없다</li>
+ *     <li>execute() 한 번 = batchSize개 JobInstance = 트랜잭션 1개. 테이블 락 / undo가 한 번에 커지지 않는다</li>
+ *     <li>삭제 순서는 FK 역순: STEP_EXECUTION_CONTEXT → STEP_EXECUTION → JOB_EXECUTION_CONTEXT → JOB_EXECUTION_PARAMS
+ *         → JOB_EXECUTION → JOB_INSTANCE</li>
+ *     <li>cutoff는 Step 시작 시 DB 시각 기준으로 한 번 계산한다</li>
+ * </ul>
+ * 테이블별 삭제 건수와 소요 시간은 afterStep에서 로그 / StepExecution ExecutionContext / ExitStatus에 남긴다.
+ */
+@Slf4j
+@Component
+@StepScope
+public class MetadataPruneTasklet implements Tasklet, StepExecutionListener {
+
+	private static final String REPORT_KEY_PREFIX = "housekeeping.";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final String tablePrefix;
+	private final int retentionDays;
+	private final int batchSize;
+	private final HousekeepingMode mode;
+	private final String candidatesSql;
+	private final List<PruneTable> tables;
+
+	private final Map<String, Long> removed = new LinkedHashMap<>();
+	private LocalDateTime cutoff;
+	private long batches;
+	private long startedAt;
+
+	public MetadataPruneTasklet(JdbcTemplate jdbcTemplate,
+								@Value("${spring.batch.jdbc.table-prefix:BATCH_}") String tablePrefix,
+								@Value("#{jobParameters['retentionDays'] ?: ${batch.housekeeping.retention-days:30}}") int retentionDays,
+								@Value("#{jobParameters['batchSize'] ?: ${batch.housekeeping.batch-size:500}}") int batchSize,
+								@Value("#{jobParameters['mode'] ?: '${batch.housekeeping.mode:DELETE}'}") String mode) {
+		if (retentionDays < 1 || batchSize < 1) {
+			throw new IllegalArgumentException("retentionDays and batchSize must be positive: " + retentionDays + ", " + batchSize);
+		}
+		this.jdbcTemplate = jdbcTemplate;
+		this.tablePrefix = tablePrefix;
+		this.retentionDays = retentionDays;
+		this.batchSize = batchSize;
+		this.mode = HousekeepingMode.valueOf(mode.toUpperCase());
+		this.candidatesSql = """
+				SELECT ji.JOB_INSTANCE_ID FROM %1$sJOB_INSTANCE ji
+				WHERE EXISTS (SELECT 1 FROM %1$sJOB_EXECUTION je WHERE je.JOB_INSTANCE_ID = ji.JOB_INSTANCE_ID)
+				  AND NOT EXISTS (SELECT 1 FROM %1$sJOB_EXECUTION je WHERE je.JOB_INSTANCE_ID = ji.JOB_INSTANCE_ID
+				                  AND (je.CREATE_TIME >= ? OR je.STATUS IN ('STARTING', 'STARTED', 'STOPPING')))
+				ORDER BY ji.JOB_INSTANCE_ID
+				LIMIT ?
+				""".formatted(tablePrefix);
+		String jobExecutions = "SELECT JOB_EXECUTION_ID FROM " + tablePrefix + "JOB_EXECUTION WHERE JOB_INSTANCE_ID IN (%s)";
+		this.tables = List.of(
+				new PruneTable("STEP_EXECUTION_CONTEXT", "STEP_EXECUTION_ID IN (SELECT STEP_EXECUTION_ID FROM " + tablePrefix
+						+ "STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (" + jobExecutions + "))"),
+				new PruneTable("STEP_EXECUTION", "JOB_EXECUTION_ID IN (" + jobExecutions + ")"),
+				new PruneTable("JOB_EXECUTION_CONTEXT", "JOB_EXECUTION_ID IN (" + jobExecutions + ")"),
+				new PruneTable("JOB_EXECUTION_PARAMS", "JOB_EXECUTION_ID IN (" + jobExecutions + ")"),
+				new PruneTable("JOB_EXECUTION", "JOB_INSTANCE_ID IN (%s)"),
+				new PruneTable("JOB_INSTANCE", "JOB_INSTANCE_ID IN (%s)"));
+	}
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		startedAt = System.nanoTime();
+		cutoff = jdbcTemplate.queryForObject("SELECT CURRENT_TIMESTAMP", Timestamp.class).toLocalDateTime().minusDays(retentionDays);
+		tables.forEach(table -> removed.put(table.name(), 0L));
+		if (mode == HousekeepingMode.ARCHIVE) {
+			// 같은 컬럼 구조의 빈 테이블 (H2 / PostgreSQL)
+			tables.forEach(table -> jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + archiveTable(table)
+					+ " AS SELECT * FROM " + tablePrefix + table.name() + " WHERE 1 = 0"));
+		}
+		log.info("[Housekeeping] pruning job instances older than {} ({} days), batchSize={}, mode={}",
+				cutoff, retentionDays, batchSize, mode);
+	}
+
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+		List<Long> instanceIds = jdbcTemplate.queryForList(candidatesSql, Long.class, Timestamp.valueOf(cutoff), batchSize);
+		if (instanceIds.isEmpty()) {
+			return RepeatStatus.FINISHED;
+		}
+
+		String placeholders = String.join(", ", Collections.nCopies(instanceIds.size(), "?"));
+		Object[] args = instanceIds.toArray();
+		for (PruneTable table : tables) {
+			String condition = table.condition().formatted(placeholders);
+			if (mode == HousekeepingMode.ARCHIVE) {
+				jdbcTemplate.update("INSERT INTO " + archiveTable(table) + " SELECT * FROM " + tablePrefix + table.name()
+						+ " WHERE " + condition, args);
+			}
+			int deleted = jdbcTemplate.update("DELETE FROM " + tablePrefix + table.name() + " WHERE " + condition, args);
+			removed.merge(table.name(), (long) deleted, Long::sum);
+		}
+		batches++;
+		contribution.incrementWriteCount(instanceIds.size());
+		log.debug("[Housekeeping] batch {}: {} job instances (ids {}..{})",
+				batches, instanceIds.size(), instanceIds.getFirst(), instanceIds.getLast());
+
+		return instanceIds.size() < batchSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+		removed.forEach((table, count) -> stepExecution.getExecutionContext().putLong(REPORT_KEY_PREFIX + table, count));
+		stepExecution.getExecutionContext().putLong(REPORT_KEY_PREFIX + "elapsedMs", elapsedMs);
+
+		String report = removed.entrySet().stream()
+				.map(entry -> entry.getKey() + "=" + entry.getValue())
+				.collect(Collectors.joining(", "));
+		log.info("[Housekeeping] {} rows older than {} in {} batches, {}ms: {}",
+				mode == HousekeepingMode.ARCHIVE ? "archived" : "deleted", cutoff, batches, elapsedMs, report);
+		return stepExecution.getExitStatus().addExitDescription(mode + " " + report + " (" + elapsedMs + "ms)");
+	}
+
+	private String archiveTable(PruneTable table) {
+		return tablePrefix + table.name() + "_ARCHIVE";
+	}
+
+	private record PruneTable(String name, String condition) {
+	}
+}
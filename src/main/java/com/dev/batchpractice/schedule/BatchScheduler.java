@@ -1,29 +1,80 @@
 package com.dev.batchpractice.schedule;
 
+import com.dev.batchpractice.common.support.JobDispatchQueue;
+import com.dev.batchpractice.schedule.lock.ClusterTriggerGuard;
+import com.dev.batchpractice.schedule.lock.LeaseToken;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.job.parameters.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
 @EnableScheduling
 public class BatchScheduler {
 
     private final JobOperator jobOperator; // 6 버전부터 JobLauncher -> JobOperator로 통합
+    private final JobDispatchQueue jobDispatchQueue;
+    private final ClusterTriggerGuard clusterTriggerGuard; // 여러 인스턴스 중 트리거마다 한 노드만 실행
     private final Job jobParameterFlowTaskletJob; // 배치잡 이름으로 식별됨
+    private final Job metadataHousekeepingJob;
+
+    // true면 스케줄러 스레드는 JobDispatchQueue에 요청만 넣고 바로 반환 (실행 순서 / 동시 실행 / 중복 트리거는 큐가 조정)
+    @Value("${batch.scheduler.async-launch:true}")
+    private boolean asyncLaunch;
 
     @Scheduled(cron = "40 24 10 * * ?")
     public void runBatch() throws Exception {
-        JobParameters jobParameters = new JobParametersBuilder()
+        launchOnce(jobParameterFlowTaskletJob, () -> new JobParametersBuilder()
             .addLong("timestamp", System.currentTimeMillis())
-            .addString("name", "jihyun")
-            .toJobParameters();
+            .addString("name", "jihyun"));
+    }
+
+    // JobRepository 메타데이터 정리 ("-"면 비활성화)
+    @Scheduled(cron = "${batch.housekeeping.cron:-}")
+    public void runHousekeeping() throws Exception {
+        launchOnce(metadataHousekeepingJob, () -> new JobParametersBuilder()
+            .addLong("timestamp", System.currentTimeMillis()));
+    }
+
+    private void launchOnce(Job job, Supplier<JobParametersBuilder> parameters) throws Exception {
+        Optional<LeaseToken> acquired = clusterTriggerGuard.tryAcquire(job.getName());
+        if (acquired.isEmpty()) {
+            return;
+        }
+        LeaseToken lease = acquired.get();
 
-        jobOperator.start(jobParameterFlowTaskletJob, jobParameters);
+        if (asyncLaunch) {
+            // 파라미터는 큐에서 꺼내 실행하는 시점에 만든다 (대기 중에 합쳐진 트리거도 실행 시각 기준 timestamp 1개)
+            jobDispatchQueue.submit(job, () -> fencedParameters(job, lease, parameters))
+                .whenComplete((jobExecution, error) -> clusterTriggerGuard.release(lease));
+            return;
+        }
+        try {
+            jobOperator.start(job, fencedParameters(job, lease, parameters));
+        } finally {
+            clusterTriggerGuard.release(lease);
+        }
+    }
+
+    private JobParameters fencedParameters(Job job, LeaseToken lease, Supplier<JobParametersBuilder> parameters) {
+        // fencing: 큐에서 기다리는 동안 리스가 만료돼 다른 노드가 트리거를 가져갔으면 실행하지 않는다
+        if (!clusterTriggerGuard.isValid(lease)) {
+            throw new IllegalStateException("Scheduler lease lost before launch: " + lease);
+        }
+        log.info("Launching {} with scheduler lease token {}", job.getName(), lease.fencingToken());
+        return parameters.get()
+            .addLong("schedulerFencingToken", lease.fencingToken(), false)
+            .toJobParameters();
     }
-}
\ No newline at end of file
+}
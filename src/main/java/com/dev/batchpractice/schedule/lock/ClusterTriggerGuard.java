@@ -0,0 +1,73 @@
+package com.dev.batchpractice.schedule.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 여러 인스턴스가 같은 크론으로 발화해도 트리거마다 한 노드만 Job을 실행하게 한다.
+ * <ol>
+ *     <li>해시 분산을 켰으면 우선 담당이 아닌 노드는 spread-grace만큼 늦게 시도 (우선 담당 노드가 먼저 락을 잡도록)</li>
+ *     <li>{@link JdbcLeaseLock}으로 트리거 이름의 리스를 획득, 실패하면 이 노드는 건너뛴다</li>
+ *     <li>실행 직전 {@link #isValid}로 리스가 아직 유효한지 확인 (fencing)</li>
+ *     <li>Job이 끝나면 {@link #release}</li>
+ * </ol>
+ * {@code batch.scheduler.lock.enabled=false}면 항상 fencingToken 0인 리스를 돌려준다 (단일 인스턴스).
+ */
+@Slf4j
+@Component
+public class ClusterTriggerGuard {
+
+	private final JdbcLeaseLock leaseLock;
+	private final SchedulerNodeRegistry nodeRegistry;
+	private final boolean enabled;
+	private final Duration lockAtMostFor;
+	private final Duration lockAtLeastFor;
+	private final Duration spreadGrace;
+
+	public ClusterTriggerGuard(JdbcLeaseLock leaseLock, SchedulerNodeRegistry nodeRegistry,
+							   @Value("${batch.scheduler.lock.enabled:true}") boolean enabled,
+							   @Value("${batch.scheduler.lock.lock-at-most-for:30m}") Duration lockAtMostFor,
+							   @Value("${batch.scheduler.lock.lock-at-least-for:30s}") Duration lockAtLeastFor,
+							   @Value("${batch.scheduler.lock.spread-grace:2s}") Duration spreadGrace) {
+		this.leaseLock = leaseLock;
+		this.nodeRegistry = nodeRegistry;
+		this.enabled = enabled;
+		this.lockAtMostFor = lockAtMostFor;
+		this.lockAtLeastFor = lockAtLeastFor;
+		this.spreadGrace = spreadGrace;
+	}
+
+	/**
+	 * @return 이 노드가 trigger를 실행해야 하면 리스, 다른 노드가 맡았으면 empty
+	 */
+	public Optional<LeaseToken> tryAcquire(String trigger) throws InterruptedException {
+		if (!enabled) {
+			return Optional.of(new LeaseToken(trigger, nodeRegistry.nodeId(), 0, LocalDateTime.now()));
+		}
+		if (!nodeRegistry.isPreferred(trigger)) {
+			Thread.sleep(spreadGrace);
+		}
+		Optional<LeaseToken> lease = leaseLock.tryAcquire(trigger, nodeRegistry.nodeId(), lockAtMostFor);
+		if (lease.isPresent()) {
+			log.info("[SchedulerLock] {} acquired by {} (token {})", trigger, nodeRegistry.nodeId(), lease.get().fencingToken());
+		} else {
+			log.info("[SchedulerLock] {} is held by another node, skipping on {}", trigger, nodeRegistry.nodeId());
+		}
+		return lease;
+	}
+
+	public boolean isValid(LeaseToken lease) {
+		return !lease.fenced() || leaseLock.isHeld(lease);
+	}
+
+	public void release(LeaseToken lease) {
+		if (lease.fenced()) {
+			leaseLock.release(lease, lockAtLeastFor);
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package com.dev.batchpractice.schedule.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * batch_scheduler_lock 테이블 기반 리스 락 (JobRepository와 같은 DataSource).
+ * <ul>
+ *     <li>획득: {@code UPDATE ... WHERE lock_name = ? AND locked_until <= now}가 1건이면 성공, fencing_token + 1.
+ *         행이 없으면 만료된 상태로 먼저 INSERT(중복 키는 무시)하고 다시 시도한다</li>
+ *     <li>시각은 모두 DB의 CURRENT_TIMESTAMP 기준이라 노드 간 시계 차이의 영향을 받지 않는다</li>
+ *     <li>리스는 lockAtMostFor 뒤에 자동 만료 (노드가 죽어도 락이 영구히 남지 않음)</li>
+ *     <li>반납 시 locked_until을 lockAtLeastFor 이후로 둔다. 크론 발화 시각이 노드마다 조금씩 달라도
+ *         같은 트리거를 다른 노드가 다시 실행하지 않도록</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class JdbcLeaseLock {
+
+	private static final String NOW_SQL = "SELECT CURRENT_TIMESTAMP";
+	private static final String ACQUIRE_SQL = """
+			UPDATE batch_scheduler_lock SET owner = ?, fencing_token = fencing_token + 1, locked_at = ?, locked_until = ?
+			WHERE lock_name = ? AND locked_until <= ?
+			""";
+	private static final String INSERT_SQL = """
+			INSERT INTO batch_scheduler_lock (lock_name, owner, fencing_token, locked_at, locked_until) VALUES (?, '', 0, ?, ?)
+			""";
+	private static final String TOKEN_SQL = "SELECT fencing_token FROM batch_scheduler_lock WHERE lock_name = ?";
+	private static final String HELD_SQL = """
+			SELECT COUNT(*) FROM batch_scheduler_lock
+			WHERE lock_name = ? AND owner = ? AND fencing_token = ? AND locked_until > CURRENT_TIMESTAMP
+			""";
+	private static final String RELEASE_SQL = """
+			UPDATE batch_scheduler_lock SET locked_until = ? WHERE lock_name = ? AND owner = ? AND fencing_token = ?
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	public JdbcLeaseLock(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * @return 획득하면 리스, 다른 노드가 유효한 리스를 갖고 있으면 empty
+	 */
+	public Optional<LeaseToken> tryAcquire(String lockName, String owner, Duration lockAtMostFor) {
+		Optional<LeaseToken> lease = acquire(lockName, owner, lockAtMostFor);
+		if (lease.isEmpty() && createIfAbsent(lockName)) {
+			lease = acquire(lockName, owner, lockAtMostFor);
+		}
+		return lease;
+	}
+
+	/**
+	 * 리스가 아직 이 owner / 토큰으로 유효한지. 실제 작업 직전에 확인해서, 리스가 만료돼 다른 노드가 가져간 뒤에는 실행하지 않는다.
+	 */
+	public boolean isHeld(LeaseToken lease) {
+		Integer count = jdbcTemplate.queryForObject(HELD_SQL, Integer.class, lease.lockName(), lease.owner(), lease.fencingToken());
+		return count != null && count == 1;
+	}
+
+	/**
+	 * 리스를 반납한다. 다른 노드가 이미 더 큰 토큰으로 가져갔으면 아무것도 바꾸지 않는다.
+	 */
+	public void release(LeaseToken lease, Duration lockAtLeastFor) {
+		LocalDateTime now = now();
+		LocalDateTime earliest = lease.lockedAt().plus(lockAtLeastFor);
+		LocalDateTime until = now.isAfter(earliest) ? now : earliest;
+		int updated = jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(until), lease.lockName(), lease.owner(), lease.fencingToken());
+		if (updated == 0) {
+			log.warn("[SchedulerLock] {} was taken over before release (token {})", lease.lockName(), lease.fencingToken());
+		}
+	}
+
+	private Optional<LeaseToken> acquire(String lockName, String owner, Duration lockAtMostFor) {
+		return transactionTemplate.execute(status -> {
+			LocalDateTime now = now();
+			int updated = jdbcTemplate.update(ACQUIRE_SQL, owner, Timestamp.valueOf(now), Timestamp.valueOf(now.plus(lockAtMostFor)),
+					lockName, Timestamp.valueOf(now));
+			if (updated == 0) {
+				return Optional.empty();
+			}
+			// 같은 트랜잭션 안이라 행 락이 유지되므로 방금 증가시킨 토큰을 읽는다
+			Long token = jdbcTemplate.queryForObject(TOKEN_SQL, Long.class, lockName);
+			return Optional.of(new LeaseToken(lockName, owner, token, now));
+		});
+	}
+
+	private boolean createIfAbsent(String lockName) {
+		Timestamp expired = Timestamp.valueOf(now());
+		try {
+			jdbcTemplate.update(INSERT_SQL, lockName, expired, expired);
+			return true;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+
+	private LocalDateTime now() {
+		return jdbcTemplate.queryForObject(NOW_SQL, Timestamp.class).toLocalDateTime();
+	}
+}
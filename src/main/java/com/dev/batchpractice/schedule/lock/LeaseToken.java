@@ -0,0 +1,15 @@
+package com.dev.batchpractice.schedule.lock;
+
+import java.time.LocalDateTime;
+
+/**
+ * 획득한 리스. fencingToken은 같은 락을 획득할 때마다 증가하므로, 더 큰 토큰이 있으면 이 리스는 만료된 것이다.
+ *
+ * @param lockedAt DB 시각 기준 획득 시각. 락 없이 실행(batch.scheduler.lock.enabled=false)하면 fencingToken은 0
+ */
+public record LeaseToken(String lockName, String owner, long fencingToken, LocalDateTime lockedAt) {
+
+	public boolean fenced() {
+		return fencingToken > 0;
+	}
+}
@@ -0,0 +1,154 @@
+package com.dev.batchpractice.schedule.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * batch_scheduler_node 테이블에 heartbeat를 남기고, 살아 있는 노드 중 트리거를 맡을 노드를 해시로 고른다.
+ * <p>
+ * Rendezvous(HRW) 해싱: 트리거마다 (노드, 트리거) 해시가 가장 큰 노드가 우선 담당.
+ * 노드가 늘거나 줄어도 그 노드가 맡던 트리거만 옮겨 간다. 우선 담당은 선호일 뿐이고 실행 보장은 JdbcLeaseLock이 한다.
+ * {@code batch.scheduler.lock.spread-by-hash=false}(기본)면 heartbeat를 남기지 않는다.
+ */
+@Slf4j
+@Component
+public class SchedulerNodeRegistry implements SmartLifecycle {
+
+	private static final String HEARTBEAT_SQL = "UPDATE batch_scheduler_node SET heartbeat_at = CURRENT_TIMESTAMP WHERE node_id = ?";
+	private static final String INSERT_SQL = """
+			INSERT INTO batch_scheduler_node (node_id, started_at, heartbeat_at) VALUES (?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+			""";
+	private static final String LIVE_NODES_SQL = "SELECT node_id FROM batch_scheduler_node WHERE heartbeat_at > ? ORDER BY node_id";
+	private static final String NOW_SQL = "SELECT CURRENT_TIMESTAMP";
+	private static final String DELETE_SQL = "DELETE FROM batch_scheduler_node WHERE node_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final String nodeId;
+	private final boolean enabled;
+	private final Duration heartbeatInterval;
+	private final Duration nodeTtl;
+
+	private volatile boolean running;
+	private Thread heartbeatThread;
+
+	public SchedulerNodeRegistry(JdbcTemplate jdbcTemplate,
+								 @Value("${batch.scheduler.node-id:}") String nodeId,
+								 @Value("${batch.scheduler.lock.spread-by-hash:false}") boolean enabled,
+								 @Value("${batch.scheduler.lock.heartbeat-interval:10s}") Duration heartbeatInterval,
+								 @Value("${batch.scheduler.lock.node-ttl:30s}") Duration nodeTtl) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.nodeId = nodeId.isBlank() ? hostName() + ":" + ProcessHandle.current().pid() : nodeId;
+		this.enabled = enabled;
+		this.heartbeatInterval = heartbeatInterval;
+		this.nodeTtl = nodeTtl;
+	}
+
+	public String nodeId() {
+		return nodeId;
+	}
+
+	/**
+	 * 이 노드가 trigger의 우선 담당인지. 해시 분산을 끄면 모든 노드가 우선 담당이다.
+	 */
+	public boolean isPreferred(String trigger) {
+		if (!enabled) {
+			return true;
+		}
+		return nodeId.equals(preferredNode(trigger, liveNodes()));
+	}
+
+	List<String> liveNodes() {
+		Timestamp threshold = Timestamp.valueOf(jdbcTemplate.queryForObject(NOW_SQL, Timestamp.class).toLocalDateTime().minus(nodeTtl));
+		return jdbcTemplate.queryForList(LIVE_NODES_SQL, String.class, threshold);
+	}
+
+	String preferredNode(String trigger, List<String> nodes) {
+		String preferred = nodeId;
+		long best = weight(nodeId, trigger);
+		for (String node : nodes) {
+			long weight = weight(node, trigger);
+			if (weight > best || (weight == best && node.compareTo(preferred) < 0)) {
+				best = weight;
+				preferred = node;
+			}
+		}
+		return preferred;
+	}
+
+	private static long weight(String node, String trigger) {
+		// String.hashCode 두 개를 섞어 64bit로 퍼뜨린다 (murmur3 fmix64)
+		long h = ((long) node.hashCode() << 32) ^ (trigger.hashCode() & 0xffffffffL);
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	private void heartbeat() {
+		if (jdbcTemplate.update(HEARTBEAT_SQL, nodeId) == 0) {
+			jdbcTemplate.update(INSERT_SQL, nodeId);
+		}
+	}
+
+	private void heartbeatLoop() {
+		while (running) {
+			try {
+				Thread.sleep(heartbeatInterval);
+				heartbeat();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				// DB가 잠깐 안 되면 다음 주기에 다시 시도 (그동안 ttl이 지나면 다른 노드가 트리거를 넘겨받는다)
+				log.warn("[SchedulerLock] heartbeat of {} failed: {}", nodeId, e.getMessage());
+			}
+		}
+	}
+
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		heartbeat();
+		running = true;
+		heartbeatThread = Thread.ofVirtual().name("scheduler-heartbeat").start(this::heartbeatLoop);
+		log.info("[SchedulerLock] node {} registered (heartbeat={}, ttl={})", nodeId, heartbeatInterval, nodeTtl);
+	}
+
+	@Override
+	public void stop() {
+		if (!running) {
+			return;
+		}
+		running = false;
+		if (heartbeatThread != null) {
+			heartbeatThread.interrupt();
+		}
+		jdbcTemplate.update(DELETE_SQL, nodeId);
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private static String hostName() {
+		try {
+			return InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			return "unknown";
+		}
+	}
+}
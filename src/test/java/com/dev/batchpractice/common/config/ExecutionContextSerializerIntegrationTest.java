@@ -0,0 +1,76 @@
+package com.dev.batchpractice.common.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JobRepository가 실제로 CompactExecutionContextSerializer로 Step ExecutionContext를 저장하는지 확인한다.
+ */
+@SpringBootTest(properties = {
+		"spring.batch.job.enabled=false",
+		"batch.repository.execution-context.compact=true"
+})
+class ExecutionContextSerializerIntegrationTest {
+
+	@Autowired
+	private JobOperator jobOperator;
+
+	@Autowired
+	private JobRepository jobRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	@Qualifier("executionContextProbeJob")
+	private Job executionContextProbeJob;
+
+	@Test
+	void storesStepExecutionContextInCompactFormat() throws Exception {
+		JobExecution jobExecution = jobOperator.start(executionContextProbeJob,
+				new JobParametersBuilder().addLong("run.id", System.nanoTime()).toJobParameters());
+
+		assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		long stepExecutionId = jobExecution.getStepExecutions().iterator().next().getId();
+		String shortContext = jdbcTemplate.queryForObject(
+				"SELECT SHORT_CONTEXT FROM BATCH_STEP_EXECUTION_CONTEXT WHERE STEP_EXECUTION_ID = ?", String.class, stepExecutionId);
+		assertThat(shortContext).startsWith("~BEC1");
+
+		StepExecution stored = jobRepository.getStepExecution(jobExecution.getId(), stepExecutionId);
+		assertThat(stored.getExecutionContext().getLong("probe.count")).isEqualTo(42L);
+	}
+
+	@TestConfiguration
+	static class ProbeJobConfig {
+
+		@Bean
+		Job executionContextProbeJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+			return new JobBuilder("executionContextProbeJob", jobRepository)
+					.start(new StepBuilder("executionContextProbeStep", jobRepository)
+							.tasklet((contribution, chunkContext) -> {
+								chunkContext.getStepContext().getStepExecution().getExecutionContext().putLong("probe.count", 42L);
+								return RepeatStatus.FINISHED;
+							}, transactionManager)
+							.build())
+					.build();
+		}
+	}
+}
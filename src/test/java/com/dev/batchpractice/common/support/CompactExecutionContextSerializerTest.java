@@ -0,0 +1,204 @@
+package com.dev.batchpractice.common.support;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactExecutionContextSerializerTest {
+
+	@Test
+	void roundTripsEveryValueType() throws IOException {
+		Map<String, Object> context = new HashMap<>();
+		context.put("null", null);
+		context.put("string", "읽은 위치 / read.count");
+		context.put("emptyString", "");
+		context.put("int", 12_345);
+		context.put("negativeInt", -7);
+		context.put("intMin", Integer.MIN_VALUE);
+		context.put("long", 9_876_543_210L);
+		context.put("negativeLong", -1L);
+		context.put("longMin", Long.MIN_VALUE);
+		context.put("longMax", Long.MAX_VALUE);
+		context.put("double", -0.5d);
+		context.put("nan", Double.NaN);
+		context.put("true", true);
+		context.put("false", false);
+		context.put("float", -1.25f);
+		context.put("short", Short.MIN_VALUE);
+		context.put("byte", (byte) -128);
+		context.put("char", '가');
+		context.put("date", new Date(-1_000L));
+		context.put("localDate", LocalDate.of(1969, 12, 31));
+		context.put("localDateTime", LocalDateTime.of(2026, 1, 1, 23, 59, 59, 999_999_999));
+		context.put("localTime", LocalTime.of(0, 0, 0, 1));
+		context.put("bigDecimal", new BigDecimal("-12345.67890"));
+		// 하위 타입은 JAVA_SERIALIZED로 가서 타입이 그대로 유지돼야 한다
+		context.put("timestamp", Timestamp.valueOf(LocalDateTime.of(2026, 1, 1, 0, 0, 0, 123_456_789)));
+
+		Map<String, Object> restored = roundTrip(new CompactExecutionContextSerializer(true, 0), context);
+
+		assertThat(restored).hasSameSizeAs(context);
+		context.forEach((key, value) -> {
+			assertThat(restored).containsKey(key);
+			assertThat(restored.get(key)).as(key).isEqualTo(value);
+			if (value != null) {
+				assertThat(restored.get(key)).as(key).isExactlyInstanceOf(value.getClass());
+			}
+		});
+	}
+
+	@Test
+	void roundTripsByteArray() throws IOException {
+		byte[] bytes = { 0, -1, 127, -128, 42 };
+
+		Map<String, Object> restored = roundTrip(new CompactExecutionContextSerializer(true, 0), Map.of("bytes", bytes));
+
+		assertThat((byte[]) restored.get("bytes")).containsExactly(bytes);
+	}
+
+	@Test
+	void writesCompactFormatWithMagicPrefix() throws IOException {
+		String serialized = serialize(new CompactExecutionContextSerializer(true, 0), Map.of("read.count", 3));
+
+		assertThat(serialized).startsWith(CompactExecutionContextSerializer.MAGIC);
+		assertThat(payload(serialized)[0]).isZero();
+	}
+
+	@Test
+	void deflatesAboveThreshold() throws IOException {
+		Map<String, Object> context = new HashMap<>();
+		for (int i = 0; i < 100; i++) {
+			context.put("partition" + i + ".name", "dataProcessingWorkerStep:partition" + i);
+		}
+		CompactExecutionContextSerializer compressing = new CompactExecutionContextSerializer(true, 64);
+		CompactExecutionContextSerializer plain = new CompactExecutionContextSerializer(true, 0);
+
+		String compressed = serialize(compressing, context);
+
+		assertThat(payload(compressed)[0] & 1).isEqualTo(1);
+		assertThat(compressed.length()).isLessThan(serialize(plain, context).length());
+		assertThat(compressing.deserialize(input(compressed))).isEqualTo(context);
+		// 압축 여부는 flags에 있으므로 threshold가 다른 설정으로도 읽을 수 있다
+		assertThat(plain.deserialize(input(compressed))).isEqualTo(context);
+	}
+
+	@Test
+	void keepsSmallContextUncompressed() throws IOException {
+		String serialized = serialize(new CompactExecutionContextSerializer(true, 1024), Map.of("read.count", 3));
+
+		assertThat(payload(serialized)[0]).isZero();
+	}
+
+	@Test
+	void readsDefaultSerializerPayload() throws IOException {
+		Map<String, Object> context = new HashMap<>();
+		context.put("batchInputJdbcCursorItemReader.read.count", 12_345);
+		context.put("last.id", 99L);
+		context.put("partition.name", "partition0");
+		String legacy = serialize(new DefaultExecutionContextSerializer(), context);
+
+		Map<String, Object> restored = new CompactExecutionContextSerializer(true, 0).deserialize(input(legacy));
+
+		assertThat(restored).isEqualTo(context);
+	}
+
+	@Test
+	void writesDefaultFormatWhenCompactIsDisabledButStillReadsCompact() throws IOException {
+		Map<String, Object> context = Map.of("read.count", 3, "last.id", 7L);
+		CompactExecutionContextSerializer fallback = new CompactExecutionContextSerializer(false, 0);
+		String compact = serialize(new CompactExecutionContextSerializer(true, 0), context);
+
+		String serialized = serialize(fallback, context);
+
+		assertThat(serialized).doesNotStartWith(CompactExecutionContextSerializer.MAGIC);
+		assertThat(new DefaultExecutionContextSerializer().deserialize(input(serialized))).isEqualTo(context);
+		assertThat(fallback.deserialize(input(compact))).isEqualTo(context);
+	}
+
+	@Test
+	void rejectsTruncatedInput() throws IOException {
+		CompactExecutionContextSerializer serializer = new CompactExecutionContextSerializer(true, 0);
+		String serialized = serialize(serializer, Map.of("batchInputJdbcCursorItemReader.read.count", 12_345, "last.id", 99L));
+		int magic = CompactExecutionContextSerializer.MAGIC.length();
+
+		// 매직만 있고 본문이 없음
+		assertThatThrownBy(() -> serializer.deserialize(input(serialized.substring(0, magic))))
+				.isInstanceOf(IOException.class);
+		// Base64 4문자 단위로 잘림 → 디코딩은 되지만 값이 모자람
+		assertThatThrownBy(() -> serializer.deserialize(input(serialized.substring(0, magic + 12))))
+				.isInstanceOf(IOException.class);
+		// Base64 단위 중간에서 잘림 → 디코딩 실패
+		assertThatThrownBy(() -> serializer.deserialize(input(serialized.substring(0, magic + 13))))
+				.isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void rejectsTruncatedCompressedInput() throws IOException {
+		Map<String, Object> context = new HashMap<>();
+		for (int i = 0; i < 100; i++) {
+			context.put("partition" + i + ".minId", (long) i * 100_000);
+		}
+		CompactExecutionContextSerializer serializer = new CompactExecutionContextSerializer(true, 1);
+		String serialized = serialize(serializer, context);
+		int magic = CompactExecutionContextSerializer.MAGIC.length();
+		String truncated = serialized.substring(0, magic + (serialized.length() - magic) / 8 * 4);
+
+		assertThatThrownBy(() -> serializer.deserialize(input(truncated)))
+				.isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void rejectsUnknownTag() {
+		// flags 0, entry 1개, key "k", tag 99
+		byte[] payload = { 0, 1, 1, 'k', 99 };
+		String corrupt = CompactExecutionContextSerializer.MAGIC + Base64.getEncoder().encodeToString(payload);
+
+		assertThatThrownBy(() -> new CompactExecutionContextSerializer(true, 0).deserialize(input(corrupt)))
+				.isInstanceOf(IOException.class)
+				.hasMessageContaining("99");
+	}
+
+	@Test
+	void rejectsCorruptCompressedBody() {
+		byte[] payload = { 1, 0x12, 0x34, 0x56, 0x78 };
+		String corrupt = CompactExecutionContextSerializer.MAGIC + Base64.getEncoder().encodeToString(payload);
+
+		assertThatThrownBy(() -> new CompactExecutionContextSerializer(true, 0).deserialize(input(corrupt)))
+				.isInstanceOf(IOException.class);
+	}
+
+	private static Map<String, Object> roundTrip(CompactExecutionContextSerializer serializer, Map<String, Object> context) throws IOException {
+		return serializer.deserialize(input(serialize(serializer, context)));
+	}
+
+	private static String serialize(ExecutionContextSerializer serializer, Map<String, Object> context) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		serializer.serialize(context, out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	private static ByteArrayInputStream input(String serialized) {
+		return new ByteArrayInputStream(serialized.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static byte[] payload(String serialized) {
+		return Base64.getDecoder().decode(serialized.substring(CompactExecutionContextSerializer.MAGIC.length()));
+	}
+}
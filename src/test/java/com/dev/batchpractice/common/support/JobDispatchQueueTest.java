@@ -0,0 +1,222 @@
+package com.dev.batchpractice.common.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParameters;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobDispatchQueueTest {
+
+	private static final long LAUNCH_TIMEOUT_MS = 2_000;
+	private static final long NO_LAUNCH_WAIT_MS = 200;
+
+	private final ControlledLauncher launcher = new ControlledLauncher();
+	private JobDispatchQueue queue;
+
+	@AfterEach
+	void tearDown() {
+		if (queue != null) {
+			queue.stop();
+		}
+		launcher.destroy();
+	}
+
+	@Test
+	void skipDropsTriggerWhileSameJobIsRunning() throws Exception {
+		queue = start(4, 10);
+		Job job = job("a");
+
+		queue.submit(job, JobParameters::new, TriggerPolicy.SKIP);
+		Launch first = launcher.next();
+		CompletableFuture<JobExecution> skipped = queue.submit(job, JobParameters::new, TriggerPolicy.SKIP);
+
+		assertThat(skipped).isCompletedWithValue(null);
+		assertThat(launcher.none()).isTrue();
+		assertThat(stats("a").skipped()).isEqualTo(1);
+
+		// 실행이 끝나면 다음 트리거는 다시 실행된다
+		first.complete();
+		awaitRunning("a", 0);
+		queue.submit(job, JobParameters::new, TriggerPolicy.SKIP);
+		assertThat(launcher.next().jobName()).isEqualTo("a");
+	}
+
+	@Test
+	void coalesceMergesTriggersIntoOnePendingRequest() throws Exception {
+		queue = start(4, 10);
+		Job job = job("a");
+
+		queue.submit(job, JobParameters::new, TriggerPolicy.COALESCE);
+		Launch first = launcher.next();
+		CompletableFuture<JobExecution> second = queue.submit(job, JobParameters::new, TriggerPolicy.COALESCE);
+		CompletableFuture<JobExecution> third = queue.submit(job, JobParameters::new, TriggerPolicy.COALESCE);
+
+		assertThat(third).isSameAs(second);
+		assertThat(stats("a").coalesced()).isEqualTo(1);
+		assertThat(stats("a").queued()).isEqualTo(1);
+		assertThat(launcher.none()).isTrue();
+
+		first.complete();
+		Launch rerun = launcher.next();
+		rerun.complete();
+		assertThat(second.get(LAUNCH_TIMEOUT_MS, TimeUnit.MILLISECONDS).getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(launcher.none()).isTrue();
+	}
+
+	@Test
+	void queueRunsEveryTriggerWithinPerJobLimit() throws Exception {
+		queue = start(4, 10);
+		Job job = job("a");
+
+		queue.submit(job, JobParameters::new, TriggerPolicy.QUEUE);
+		queue.submit(job, JobParameters::new, TriggerPolicy.QUEUE);
+		queue.submit(job, JobParameters::new, TriggerPolicy.QUEUE);
+
+		// Job별 동시 실행 한도(기본 1) 때문에 하나씩 실행된다
+		for (int i = 0; i < 3; i++) {
+			Launch launch = launcher.next();
+			assertThat(launcher.none()).isTrue();
+			launch.complete();
+		}
+		awaitRunning("a", 0);
+		assertThat(stats("a").completed()).isEqualTo(3);
+	}
+
+	@Test
+	void limitsConcurrentJobsAcrossJobs() throws Exception {
+		queue = start(2, 10);
+
+		queue.submit(job("a"), JobParameters::new, TriggerPolicy.QUEUE);
+		queue.submit(job("b"), JobParameters::new, TriggerPolicy.QUEUE);
+		queue.submit(job("c"), JobParameters::new, TriggerPolicy.QUEUE);
+
+		Launch first = launcher.next();
+		launcher.next();
+		assertThat(launcher.none()).isTrue();
+
+		first.complete();
+		assertThat(launcher.next()).isNotNull();
+	}
+
+	@Test
+	void rejectsWhenQueueIsFull() throws Exception {
+		queue = start(1, 1);
+
+		queue.submit(job("a"), JobParameters::new, TriggerPolicy.QUEUE);
+		launcher.next();
+		CompletableFuture<JobExecution> queued = queue.submit(job("b"), JobParameters::new, TriggerPolicy.QUEUE);
+		CompletableFuture<JobExecution> rejected = queue.submit(job("c"), JobParameters::new, TriggerPolicy.QUEUE);
+
+		assertThat(queued).isNotDone();
+		assertThat(rejected).isCompletedExceptionally();
+		assertThat(rejected.handle((result, error) -> error).get()).isInstanceOf(RejectedExecutionException.class);
+		assertThat(stats("c").rejected()).isEqualTo(1);
+	}
+
+	@Test
+	void coalesceDoesNotCountAgainstQueueCapacity() throws Exception {
+		queue = start(1, 1);
+		Job job = job("a");
+
+		queue.submit(job, JobParameters::new, TriggerPolicy.COALESCE);
+		launcher.next();
+		CompletableFuture<JobExecution> pending = queue.submit(job, JobParameters::new, TriggerPolicy.COALESCE);
+		CompletableFuture<JobExecution> merged = queue.submit(job, JobParameters::new, TriggerPolicy.COALESCE);
+
+		assertThat(merged).isSameAs(pending).isNotDone();
+		assertThat(stats("a").rejected()).isZero();
+	}
+
+	@Test
+	void cancelsPendingRequestsOnStop() throws Exception {
+		queue = start(1, 10);
+
+		queue.submit(job("a"), JobParameters::new, TriggerPolicy.QUEUE);
+		launcher.next();
+		CompletableFuture<JobExecution> pending = queue.submit(job("b"), JobParameters::new, TriggerPolicy.QUEUE);
+		queue.stop();
+
+		assertThat(pending).isCancelled();
+		assertThat(queue.submit(job("c"), JobParameters::new, TriggerPolicy.QUEUE)).isCompletedExceptionally();
+		queue = null;
+	}
+
+	private JobDispatchQueue start(int maxConcurrentJobs, int queueCapacity) {
+		JobDispatchQueue dispatchQueue = new JobDispatchQueue(launcher, maxConcurrentJobs, 1, TriggerPolicy.COALESCE,
+				queueCapacity, Duration.ofMinutes(5));
+		dispatchQueue.start();
+		return dispatchQueue;
+	}
+
+	private JobDispatchStats stats(String jobName) {
+		return queue.stats().stream()
+				.filter(stats -> stats.jobName().equals(jobName))
+				.findFirst()
+				.orElseThrow();
+	}
+
+	private void awaitRunning(String jobName, int running) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(LAUNCH_TIMEOUT_MS);
+		while (stats(jobName).running() != running) {
+			assertThat(System.nanoTime()).as("running count of " + jobName).isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	private static Job job(String name) {
+		Job job = mock(Job.class);
+		when(job.getName()).thenReturn(name);
+		return job;
+	}
+
+	private record Launch(String jobName, CompletableFuture<JobExecution> future) {
+
+		void complete() {
+			JobExecution jobExecution = mock(JobExecution.class);
+			when(jobExecution.getStatus()).thenReturn(BatchStatus.COMPLETED);
+			future.complete(jobExecution);
+		}
+	}
+
+	/**
+	 * Job을 실제로 실행하지 않고, 테스트가 완료 시점을 정하는 런처.
+	 */
+	private static class ControlledLauncher extends AsyncJobLauncher {
+
+		private final BlockingQueue<Launch> launches = new LinkedBlockingQueue<>();
+
+		ControlledLauncher() {
+			super(null, ThreadMode.VIRTUAL, 4, Duration.ZERO);
+		}
+
+		@Override
+		public CompletableFuture<JobExecution> start(Job job, JobParameters jobParameters) {
+			CompletableFuture<JobExecution> future = new CompletableFuture<>();
+			launches.add(new Launch(job.getName(), future));
+			return future;
+		}
+
+		Launch next() throws InterruptedException {
+			Launch launch = launches.poll(LAUNCH_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+			assertThat(launch).as("expected a job launch").isNotNull();
+			return launch;
+		}
+
+		boolean none() throws InterruptedException {
+			return launches.poll(NO_LAUNCH_WAIT_MS, TimeUnit.MILLISECONDS) == null;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.dev.batchpractice.job.dataprocessing.pipeline;
+
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import com.dev.batchpractice.job.dataprocessing.processor.ApiCallItemProcessor;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.TaskletStep;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+import org.springframework.batch.infrastructure.support.transaction.ResourcelessTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PipelinedDataProcessingTaskletTest {
+
+	private final JobRepository jobRepository = new ResourcelessJobRepository();
+	private final List<BatchOutput> written = new CopyOnWriteArrayList<>();
+
+	@Test
+	void completesWhenReaderIsExhausted() throws Exception {
+		StepExecution stepExecution = execute(new SequenceReader(20, -1));
+
+		assertThat(stepExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(stepExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode());
+		assertThat(stepExecution.getWriteCount()).isEqualTo(20);
+		assertThat(written).hasSize(20);
+	}
+
+	@Test
+	void failsWhenReaderThrowsMidStream() throws Exception {
+		// 5건을 읽은 뒤 Reader가 실패해도 END는 흘러가므로, 이를 정상 종료로 보면 안 된다
+		StepExecution stepExecution = execute(new SequenceReader(20, 5));
+
+		assertThat(stepExecution.getStatus()).isEqualTo(BatchStatus.FAILED);
+		assertThat(stepExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.FAILED.getExitCode());
+		assertThat(stepExecution.getFailureExceptions())
+				.anySatisfy(e -> assertThat(e).hasMessageContaining("reader failed"));
+		assertThat(written).hasSizeLessThanOrEqualTo(5);
+	}
+
+	private StepExecution execute(ItemStreamReader<BatchInput> reader) throws Exception {
+		PipelinedDataProcessingTasklet tasklet = new PipelinedDataProcessingTasklet(reader, new EchoProcessor(),
+				chunk -> written.addAll(chunk.getItems()), null, 3, 2, 4, 4, Duration.ofMillis(50), 0);
+		TaskletStep step = new StepBuilder("dataProcessingStep", jobRepository)
+				.tasklet(tasklet, new ResourcelessTransactionManager())
+				.build();
+
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jobRepository.createJobInstance("dataProcessingJob", jobParameters);
+		JobExecution jobExecution = jobRepository.createJobExecution(jobInstance, jobParameters, new ExecutionContext());
+		StepExecution stepExecution = jobRepository.createStepExecution(step.getName(), jobExecution);
+		step.execute(stepExecution);
+		return stepExecution;
+	}
+
+	/**
+	 * id 1..count를 돌려주고, failAfter건을 읽은 다음 호출에서 예외를 던진다 (failAfter < 0이면 실패하지 않음).
+	 */
+	private static class SequenceReader implements ItemStreamReader<BatchInput> {
+
+		private final int count;
+		private final int failAfter;
+		private final AtomicLong read = new AtomicLong();
+
+		SequenceReader(int count, int failAfter) {
+			this.count = count;
+			this.failAfter = failAfter;
+		}
+
+		@Override
+		public BatchInput read() {
+			long id = read.incrementAndGet();
+			if (failAfter >= 0 && id > failAfter) {
+				throw new IllegalStateException("reader failed at item " + id);
+			}
+			if (id > count) {
+				return null;
+			}
+			return BatchInput.builder().id(id).inputName("input" + id).data("data" + id).inputStatus(0).build();
+		}
+	}
+
+	private static class EchoProcessor extends ApiCallItemProcessor {
+
+		EchoProcessor() {
+			super(null, null, null);
+		}
+
+		@Override
+		public BatchOutput process(BatchInput item) {
+			return BatchOutput.builder()
+					.inputId(item.getId())
+					.name(item.getInputName())
+					.originalData(item.getData())
+					.processedData(item.getData().toUpperCase())
+					.build();
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.dev.batchpractice.job.dataprocessing.processor;
+
+import com.dev.batchpractice.domain.entity.BatchInput;
+import com.dev.batchpractice.domain.entity.BatchOutput;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncApiCallItemProcessorTest {
+
+	private static final String IN_FLIGHT = "batch.processing.async.in_flight";
+
+	private final BlockingProcessor delegate = new BlockingProcessor();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final AsyncApiCallItemProcessor processor = new AsyncApiCallItemProcessor(delegate, 2, registry);
+
+	@AfterEach
+	void tearDown() {
+		delegate.release.countDown();
+		processor.destroy();
+	}
+
+	@Test
+	void rolledBackChunkCancelsOutstandingCallsAndReturnsPermits() throws Exception {
+		processor.bindTo(registry);
+		Future<BatchOutput> first = processor.process(input(1));
+		Future<BatchOutput> second = processor.process(input(2));
+		await(() -> delegate.started.get() == 2);
+
+		processor.afterChunkError(null);
+
+		assertThat(first.isCancelled()).isTrue();
+		assertThat(second.isCancelled()).isTrue();
+		// 진행 중이던 외부 API 호출은 interrupt로 끝나고, in-flight permit은 모두 돌아온다
+		await(() -> delegate.interrupted.get() == 2);
+		await(() -> registry.get(IN_FLIGHT).gauge().value() == 0);
+	}
+
+	@Test
+	void committedChunkLeavesItsCallsAlone() throws Exception {
+		delegate.release.countDown();
+		Future<BatchOutput> future = processor.process(input(1));
+		assertThat(future.get(5, TimeUnit.SECONDS).getInputId()).isEqualTo(1L);
+		processor.afterChunk(null);
+
+		// 커밋된 청크의 Future는 다음 청크의 롤백과 무관하다
+		processor.afterChunkError(null);
+
+		assertThat(future.isCancelled()).isFalse();
+	}
+
+	@Test
+	void recordsProcessTimeAroundTheApiCallNotTheSubmission() throws Exception {
+		Future<BatchOutput> future = processor.process(input(1));
+		await(() -> delegate.started.get() == 1);
+		// 제출만 된 상태에서는 기록하지 않는다
+		assertThat(registry.find("batch.item.process").timer()).isNull();
+
+		Thread.sleep(50);
+		delegate.release.countDown();
+		future.get(5, TimeUnit.SECONDS);
+
+		assertThat(registry.get("batch.item.process").timer().totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+	}
+
+	private static BatchInput input(long id) {
+		return BatchInput.builder().id(id).inputName("input" + id).data("data" + id).inputStatus(0).build();
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	/**
+	 * release가 열릴 때까지 외부 API 호출이 걸려 있는 것처럼 대기하는 delegate. interrupt되면 횟수를 남긴다.
+	 */
+	private static class BlockingProcessor extends ApiCallItemProcessor {
+
+		private final CountDownLatch release = new CountDownLatch(1);
+		private final AtomicInteger started = new AtomicInteger();
+		private final AtomicInteger interrupted = new AtomicInteger();
+
+		BlockingProcessor() {
+			super(null, null, null);
+		}
+
+		@Override
+		public BatchOutput process(BatchInput item) {
+			started.incrementAndGet();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				interrupted.incrementAndGet();
+				throw new IllegalStateException("interrupted", e);
+			}
+			return BatchOutput.builder().inputId(item.getId()).build();
+		}
+	}
+}
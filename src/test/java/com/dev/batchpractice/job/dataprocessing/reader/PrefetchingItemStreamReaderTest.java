@@ -0,0 +1,227 @@
+package com.dev.batchpractice.job.dataprocessing.reader;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefetchingItemStreamReaderTest {
+
+    private static final long LAST_ID = 100;
+    private static final String CHECKPOINT_KEY = "prefetch." + PrefetchingItemStreamReader.LOWEST_UNCOMMITTED_ID_KEY;
+
+    private final List<Long> openedFrom = new CopyOnWriteArrayList<>();
+    private final AtomicLong delegatePosition = new AtomicLong();
+    private final List<PrefetchingItemStreamReader<Long>> readers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        readers.forEach(PrefetchingItemStreamReader::close);
+    }
+
+    @Test
+    void checkpointStaysAtLowestUncommittedIdWhilePrefetchRunsAhead() throws Exception {
+        PrefetchingItemStreamReader<Long> reader = open(new ExecutionContext());
+
+        // 청크 1 (1..3) 커밋
+        assertThat(readChunk(reader, 3)).containsExactly(1L, 2L, 3L);
+        reader.afterChunk(null);
+        // 청크 2 (4..6) 읽기만 하고 아직 커밋 전
+        assertThat(readChunk(reader, 3)).containsExactly(4L, 5L, 6L);
+        // 다른 스레드의 청크 3 (7..9)은 먼저 커밋
+        onOtherThread(() -> {
+            assertThat(readChunk(reader, 3)).containsExactly(7L, 8L, 9L);
+            reader.afterChunk(null);
+        });
+        // 생산자가 버퍼(10건)를 채울 때까지 기다린다
+        awaitDelegatePosition(19);
+
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.update(executionContext);
+
+        // 버퍼에 미리 읽어 둔 아이템과 뒤에서 커밋된 청크 3은 체크포인트를 앞으로 보내지 않는다
+        assertThat(executionContext.getLong(CHECKPOINT_KEY)).isEqualTo(4L);
+    }
+
+    @Test
+    void checkpointMovesPastLastReadIdOnceEverythingIsCommitted() throws Exception {
+        PrefetchingItemStreamReader<Long> reader = open(new ExecutionContext());
+
+        readChunk(reader, 5);
+        reader.afterChunk(null);
+        awaitDelegatePosition(15);
+
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.update(executionContext);
+
+        // 버퍼에 남은(꺼내 가지 않은) 6 이후는 커밋된 것이 아니다
+        assertThat(executionContext.getLong(CHECKPOINT_KEY)).isEqualTo(6L);
+    }
+
+    @Test
+    void rolledBackChunkKeepsItsIdsUncommitted() throws Exception {
+        PrefetchingItemStreamReader<Long> reader = open(new ExecutionContext());
+
+        readChunk(reader, 3);
+        reader.afterChunkError(null);
+        readChunk(reader, 3);
+        reader.afterChunk(null);
+
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.update(executionContext);
+
+        assertThat(executionContext.getLong(CHECKPOINT_KEY)).isEqualTo(1L);
+    }
+
+    @Test
+    void restartResumesFromCheckpointWithoutLosingUncommittedItems() throws Exception {
+        PrefetchingItemStreamReader<Long> first = open(new ExecutionContext());
+        readChunk(first, 3);
+        first.afterChunk(null);
+        readChunk(first, 3);
+        ExecutionContext executionContext = new ExecutionContext();
+        first.update(executionContext);
+        // 커밋 전에 실패 → Step 종료
+        first.close();
+        readers.remove(first);
+
+        PrefetchingItemStreamReader<Long> restarted = open(executionContext);
+        List<Long> remaining = new ArrayList<>();
+        Long item;
+        while ((item = restarted.read()) != null) {
+            remaining.add(item);
+        }
+
+        assertThat(openedFrom).containsExactly(0L, 4L);
+        assertThat(remaining).hasSize((int) (LAST_ID - 3)).startsWith(4L, 5L, 6L).endsWith(LAST_ID);
+    }
+
+    private PrefetchingItemStreamReader<Long> open(ExecutionContext executionContext) {
+        return open(executionContext, LAST_ID);
+    }
+
+    private PrefetchingItemStreamReader<Long> open(ExecutionContext executionContext, long lastId) {
+        PrefetchingItemStreamReader<Long> reader = new PrefetchingItemStreamReader<>("prefetch", startId -> {
+            openedFrom.add(startId);
+            return new RangeReader(Math.max(startId, 1), lastId, delegatePosition);
+        }, Long::longValue, 10);
+        reader.open(executionContext);
+        readers.add(reader);
+        return reader;
+    }
+
+    @Test
+    void checkpointNeverPassesAnItemThatIsNotCommittedWhileReadsAndUpdatesInterleave() throws Exception {
+        long lastId = 20_000;
+        PrefetchingItemStreamReader<Long> reader = open(new ExecutionContext(), lastId);
+        Set<Long> committed = ConcurrentHashMap.newKeySet();
+        long verifiedUpTo = 1;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(3)) {
+            List<Future<?>> consumers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                consumers.add(executor.submit(() -> {
+                    List<Long> chunk;
+                    do {
+                        chunk = new ArrayList<>(5);
+                        Long item;
+                        while (chunk.size() < 5 && (item = reader.read()) != null) {
+                            chunk.add(item);
+                        }
+                        // 커밋된 뒤에 afterChunk가 불린다
+                        committed.addAll(chunk);
+                        reader.afterChunk(null);
+                    } while (chunk.size() == 5);
+                    return null;
+                }));
+            }
+
+            // 청크 스레드가 read / afterChunk를 하는 동안 update()를 계속 호출한다
+            while (!consumers.stream().allMatch(Future::isDone)) {
+                ExecutionContext executionContext = new ExecutionContext();
+                reader.update(executionContext);
+                long checkpoint = executionContext.getLong(CHECKPOINT_KEY);
+                for (long id = verifiedUpTo; id < checkpoint; id++) {
+                    assertThat(committed).as("checkpoint %d passed uncommitted id %d", checkpoint, id).contains(id);
+                }
+                verifiedUpTo = Math.max(verifiedUpTo, checkpoint);
+            }
+            for (Future<?> consumer : consumers) {
+                consumer.get(5, TimeUnit.SECONDS);
+            }
+        }
+
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.update(executionContext);
+        assertThat(committed).hasSize((int) lastId);
+        assertThat(executionContext.getLong(CHECKPOINT_KEY)).isEqualTo(lastId + 1);
+    }
+
+    private static List<Long> readChunk(PrefetchingItemStreamReader<Long> reader, int size) throws Exception {
+        List<Long> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(reader.read());
+        }
+        return items;
+    }
+
+    private static void onOtherThread(ChunkWork work) throws Exception {
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            executor.submit(() -> {
+                work.run();
+                return null;
+            }).get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void awaitDelegatePosition(long id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (delegatePosition.get() < id) {
+            assertThat(System.nanoTime()).as("delegate position").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkWork {
+        void run() throws Exception;
+    }
+
+    /**
+     * from..to id를 오름차순으로 돌려주는 delegate. 마지막으로 돌려준 id를 position에 남긴다.
+     */
+    private static class RangeReader implements ItemStreamReader<Long> {
+
+        private final long to;
+        private final AtomicLong position;
+        private long next;
+
+        RangeReader(long from, long to, AtomicLong position) {
+            this.next = from;
+            this.to = to;
+            this.position = position;
+        }
+
+        @Override
+        public Long read() {
+            if (next > to) {
+                return null;
+            }
+            position.set(next);
+            return next++;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.dev.batchpractice.schedule.lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ClusterTriggerGuardTest {
+
+	private static final String TRIGGER = "dataProcessingJob";
+	private static final Duration LOCK_AT_MOST_FOR = Duration.ofMillis(500);
+	private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMillis(500);
+
+	private EmbeddedDatabase database;
+	private JdbcTemplate jdbcTemplate;
+	private JdbcLeaseLock leaseLock;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+		jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute(JdbcLeaseLockTest.CREATE_TABLE_SQL);
+		leaseLock = new JdbcLeaseLock(jdbcTemplate, new DataSourceTransactionManager(database));
+	}
+
+	@AfterEach
+	void tearDown() {
+		database.shutdown();
+	}
+
+	@Test
+	void onlyOneNodeRunsEachTrigger() throws InterruptedException {
+		ClusterTriggerGuard nodeA = guard("node-a");
+		ClusterTriggerGuard nodeB = guard("node-b");
+
+		Optional<LeaseToken> lease = nodeA.tryAcquire(TRIGGER);
+
+		assertThat(lease).isPresent();
+		assertThat(nodeA.isValid(lease.get())).isTrue();
+		assertThat(nodeB.tryAcquire(TRIGGER)).isEmpty();
+	}
+
+	@Test
+	void leaseIsNoLongerValidAfterAnotherNodeTakesOver() throws InterruptedException {
+		ClusterTriggerGuard nodeA = guard("node-a");
+		ClusterTriggerGuard nodeB = guard("node-b");
+		LeaseToken stale = nodeA.tryAcquire(TRIGGER).orElseThrow();
+
+		// node-a가 실행 직전에 멈춘 사이 리스가 만료되고 node-b가 가져간다
+		Thread.sleep(LOCK_AT_MOST_FOR.multipliedBy(2));
+		LeaseToken current = nodeB.tryAcquire(TRIGGER).orElseThrow();
+
+		assertThat(current.fencingToken()).isGreaterThan(stale.fencingToken());
+		assertThat(nodeA.isValid(stale)).isFalse();
+		assertThat(nodeB.isValid(current)).isTrue();
+	}
+
+	@Test
+	void releaseHoldsTriggerForLockAtLeastFor() throws InterruptedException {
+		ClusterTriggerGuard nodeA = guard("node-a");
+		ClusterTriggerGuard nodeB = guard("node-b");
+		LeaseToken lease = nodeA.tryAcquire(TRIGGER).orElseThrow();
+
+		nodeA.release(lease);
+
+		assertThat(nodeB.tryAcquire(TRIGGER)).isEmpty();
+		Thread.sleep(LOCK_AT_LEAST_FOR.multipliedBy(2));
+		assertThat(nodeB.tryAcquire(TRIGGER)).isPresent();
+	}
+
+	@Test
+	void disabledGuardAlwaysRunsWithoutTouchingTheLock() throws InterruptedException {
+		JdbcLeaseLock unusedLock = mock(JdbcLeaseLock.class);
+		ClusterTriggerGuard guard = new ClusterTriggerGuard(unusedLock, nodeRegistry("node-a"), false,
+				LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, Duration.ZERO);
+
+		LeaseToken lease = guard.tryAcquire(TRIGGER).orElseThrow();
+
+		assertThat(lease.fenced()).isFalse();
+		assertThat(lease.fencingToken()).isZero();
+		assertThat(guard.isValid(lease)).isTrue();
+		guard.release(lease);
+		verifyNoInteractions(unusedLock);
+	}
+
+	private ClusterTriggerGuard guard(String nodeId) {
+		return new ClusterTriggerGuard(leaseLock, nodeRegistry(nodeId), true, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, Duration.ZERO);
+	}
+
+	private SchedulerNodeRegistry nodeRegistry(String nodeId) {
+		// 해시 분산을 끄면 heartbeat 없이 모든 노드가 우선 담당이다
+		return new SchedulerNodeRegistry(jdbcTemplate, nodeId, false, Duration.ofSeconds(10), Duration.ofSeconds(30));
+	}
+}
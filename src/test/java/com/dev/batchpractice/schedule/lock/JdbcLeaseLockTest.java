@@ -0,0 +1,106 @@
+package com.dev.batchpractice.schedule.lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcLeaseLockTest {
+
+	static final String CREATE_TABLE_SQL = """
+			CREATE TABLE batch_scheduler_lock (
+				lock_name VARCHAR(100) PRIMARY KEY,
+				owner VARCHAR(255) NOT NULL,
+				fencing_token BIGINT NOT NULL,
+				locked_at TIMESTAMP(6) NOT NULL,
+				locked_until TIMESTAMP(6) NOT NULL
+			)
+			""";
+
+	private static final String TRIGGER = "dataProcessingJob";
+	private static final Duration SHORT_LEASE = Duration.ofMillis(500);
+
+	private EmbeddedDatabase database;
+	private JdbcLeaseLock leaseLock;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute(CREATE_TABLE_SQL);
+		leaseLock = new JdbcLeaseLock(jdbcTemplate, new DataSourceTransactionManager(database));
+	}
+
+	@AfterEach
+	void tearDown() {
+		database.shutdown();
+	}
+
+	@Test
+	void onlyOneOwnerHoldsUnexpiredLease() {
+		LeaseToken lease = leaseLock.tryAcquire(TRIGGER, "node-a", Duration.ofMinutes(1)).orElseThrow();
+
+		assertThat(lease.fencingToken()).isEqualTo(1);
+		assertThat(leaseLock.isHeld(lease)).isTrue();
+		assertThat(leaseLock.tryAcquire(TRIGGER, "node-b", Duration.ofMinutes(1))).isEmpty();
+		// 같은 노드라도 리스가 유효한 동안은 다시 잡지 못한다
+		assertThat(leaseLock.tryAcquire(TRIGGER, "node-a", Duration.ofMinutes(1))).isEmpty();
+	}
+
+	@Test
+	void takesOverExpiredLeaseWithHigherFencingToken() throws InterruptedException {
+		LeaseToken stale = leaseLock.tryAcquire(TRIGGER, "node-a", SHORT_LEASE).orElseThrow();
+		Thread.sleep(SHORT_LEASE.multipliedBy(2));
+
+		assertThat(leaseLock.isHeld(stale)).isFalse();
+		LeaseToken takenOver = leaseLock.tryAcquire(TRIGGER, "node-b", Duration.ofMinutes(1)).orElseThrow();
+
+		assertThat(takenOver.fencingToken()).isEqualTo(stale.fencingToken() + 1);
+		assertThat(leaseLock.isHeld(takenOver)).isTrue();
+		assertThat(leaseLock.isHeld(stale)).isFalse();
+
+		// 늦게 끝난 이전 소유자의 반납은 새 리스를 건드리지 않는다
+		leaseLock.release(stale, Duration.ZERO);
+		assertThat(leaseLock.isHeld(takenOver)).isTrue();
+		assertThat(leaseLock.tryAcquire(TRIGGER, "node-a", Duration.ofMinutes(1))).isEmpty();
+	}
+
+	@Test
+	void releaseKeepsLeaseUntilLockAtLeastFor() throws InterruptedException {
+		LeaseToken lease = leaseLock.tryAcquire(TRIGGER, "node-a", Duration.ofMinutes(1)).orElseThrow();
+
+		// Job이 금방 끝나도 lockAtLeastFor 동안은 늦게 발화한 다른 노드가 같은 트리거를 실행하지 않는다
+		leaseLock.release(lease, SHORT_LEASE);
+		assertThat(leaseLock.tryAcquire(TRIGGER, "node-b", Duration.ofMinutes(1))).isEmpty();
+
+		Thread.sleep(SHORT_LEASE.multipliedBy(2));
+		Optional<LeaseToken> next = leaseLock.tryAcquire(TRIGGER, "node-b", Duration.ofMinutes(1));
+		assertThat(next).hasValueSatisfying(token -> assertThat(token.fencingToken()).isEqualTo(2));
+	}
+
+	@Test
+	void releaseAfterLockAtLeastForFreesLeaseImmediately() {
+		LeaseToken lease = leaseLock.tryAcquire(TRIGGER, "node-a", Duration.ofMinutes(1)).orElseThrow();
+
+		leaseLock.release(lease, Duration.ZERO);
+
+		assertThat(leaseLock.isHeld(lease)).isFalse();
+		assertThat(leaseLock.tryAcquire(TRIGGER, "node-b", Duration.ofMinutes(1))).isPresent();
+	}
+
+	@Test
+	void locksAreIndependentPerTrigger() {
+		assertThat(leaseLock.tryAcquire(TRIGGER, "node-a", Duration.ofMinutes(1))).isPresent();
+		assertThat(leaseLock.tryAcquire("bulkSeedJob", "node-b", Duration.ofMinutes(1)))
+				.hasValueSatisfying(token -> assertThat(token.fencingToken()).isEqualTo(1));
+	}
+}